@@ -0,0 +1,121 @@
+package disjointsets;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A {@link DisjointSets} whose {@link #findSet} and {@link #union} may be called from many
+ * threads at once.
+ *
+ * The forest is stored in an {@link AtomicIntegerArray} of parent indices, where a root points to
+ * itself. Finds use path splitting, installing each shortcut with a single compare-and-set that
+ * may harmlessly fail, so a find never waits on other threads. Unions link one root under the
+ * other with a compare-and-set and retry from fresh roots if another thread got there first. The
+ * root that gets linked is chosen by a fixed pseudo-random order on indices (randomized linking),
+ * which keeps trees shallow without having to update a size field atomically with the link.
+ *
+ * Because the arrays cannot grow while other threads are reading them, the number of sets is
+ * fixed at construction time. {@link #makeSet} is synchronized; ids are assigned in call order
+ * exactly as documented by {@link DisjointSets}. While unions are running concurrently, the id
+ * returned by {@link #findSet} is only guaranteed to be current at some point during the call.
+ *
+ * @see DisjointSets for more documentation.
+ */
+public class ConcurrentDisjointSets<T> implements DisjointSets<T> {
+    private final AtomicIntegerArray parents;
+    private final Map<T, Integer> indices;
+    private int count;
+
+    /**
+     * @param capacity The maximum number of sets that can be created.
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public ConcurrentDisjointSets(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative, but was " + capacity);
+        }
+        this.parents = new AtomicIntegerArray(capacity);
+        this.indices = new ConcurrentHashMap<>();
+        this.count = 0;
+    }
+
+    /**
+     * @throws IllegalStateException if this already contains as many sets as its capacity
+     * @see DisjointSets#makeSet
+     */
+    @Override
+    public synchronized void makeSet(T item) {
+        if (this.indices.containsKey(item)) {
+            throw new IllegalArgumentException(item + " is already in a set.");
+        }
+        if (this.count == this.parents.length()) {
+            throw new IllegalStateException("Already contains " + this.count + " sets.");
+        }
+        // publish the root before the item becomes visible to other threads
+        this.parents.set(this.count, this.count);
+        this.indices.put(item, this.count);
+        this.count++;
+    }
+
+    @Override
+    public int findSet(T item) {
+        return findRoot(indexOf(item));
+    }
+
+    @Override
+    public boolean union(T item1, T item2) {
+        int root1 = indexOf(item1);
+        int root2 = indexOf(item2);
+        while (true) {
+            root1 = findRoot(root1);
+            root2 = findRoot(root2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (priority(root1) > priority(root2)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            // fails only if root1 was linked elsewhere since we found it; retry from there
+            if (this.parents.compareAndSet(root1, root1, root2)) {
+                return true;
+            }
+        }
+    }
+
+    private int indexOf(T item) {
+        Integer index = this.indices.get(item);
+        if (index == null) {
+            throw new IllegalArgumentException(item + " is not in any set.");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the root of the tree containing the given index, pointing each index along the way
+     * at its grandparent.
+     */
+    private int findRoot(int index) {
+        while (true) {
+            int parent = this.parents.get(index);
+            if (parent == index) {
+                return index;
+            }
+            int grandparent = this.parents.get(parent);
+            if (parent != grandparent) {
+                this.parents.compareAndSet(index, parent, grandparent);
+            }
+            index = parent;
+        }
+    }
+
+    /**
+     * Returns the linking priority of the given index. Multiplying by an odd constant is a
+     * bijection on ints, so no two indices share a priority.
+     */
+    private static int priority(int index) {
+        return index * 0x9E3779B9;
+    }
+}
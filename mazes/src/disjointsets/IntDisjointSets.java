@@ -0,0 +1,242 @@
+package disjointsets;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A quick-union-by-size data structure with path compression over the dense integer ids
+ * 0, 1, 2, ..., with no boxing or hashing.
+ *
+ * Use this directly when the items already have dense ids (for example, rooms numbered in a
+ * grid); {@link UnionBySizeCompressingDisjointSets} adapts it to arbitrary items.
+ *
+ * Ids are assigned in creation order, and {@link #find} returns the id of the root of a set, so
+ * the ids it returns follow the same rules as {@link DisjointSets#findSet}.
+ */
+public class IntDisjointSets {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /*
+    For each id, either the id of its parent, or, if the id is a root, the negated size of its
+    set. Only the first `count` entries are in use.
+    */
+    int[] parents;
+    private int count;
+    private int componentCount;
+
+    public IntDisjointSets() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty collection with room for the given number of sets before it must grow.
+     *
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntDisjointSets(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                "Initial capacity must be non-negative, but was " + initialCapacity);
+        }
+        this.parents = new int[initialCapacity];
+        this.count = 0;
+        this.componentCount = 0;
+    }
+
+    /** Returns the number of ids created so far. */
+    public int size() {
+        return this.count;
+    }
+
+    /** Returns the number of disjoint sets. */
+    public int componentCount() {
+        return this.componentCount;
+    }
+
+    /**
+     * Returns the number of ids in the set containing the given id.
+     *
+     * @throws IllegalArgumentException if id has not been created
+     */
+    public int sizeOf(int id) {
+        return -this.parents[find(id)];
+    }
+
+    /**
+     * Returns an iterator over the ids of all the sets, as would be returned by {@link #find}.
+     * The iterator is invalidated by any later call to {@link #union}.
+     */
+    public PrimitiveIterator.OfInt representatives() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = nextRoot(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next < count;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int root = this.next;
+                this.next = nextRoot(root + 1);
+                return root;
+            }
+        };
+    }
+
+    /** Creates a new set containing just the next unused id, and returns that id. */
+    public int makeSet() {
+        ensureCapacity(this.count + 1);
+        this.parents[this.count] = -1;
+        this.componentCount++;
+        return this.count++;
+    }
+
+    /**
+     * Creates n new singleton sets for the next n unused ids.
+     *
+     * @throws IllegalArgumentException if n is negative
+     */
+    public void makeSets(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of sets must be non-negative, but was " + n);
+        }
+        ensureCapacity(this.count + n);
+        Arrays.fill(this.parents, this.count, this.count + n, -1);
+        this.count += n;
+        this.componentCount += n;
+    }
+
+    /**
+     * Returns the id of the set containing the given id.
+     *
+     * @throws IllegalArgumentException if id has not been created
+     */
+    public int find(int id) {
+        checkId(id);
+        return findRoot(id);
+    }
+
+    /**
+     * If the given ids are in different sets, merges those sets and returns `true`. Otherwise,
+     * does nothing and returns `false`.
+     *
+     * @throws IllegalArgumentException if id1 or id2 has not been created
+     */
+    public boolean union(int id1, int id2) {
+        checkId(id1);
+        checkId(id2);
+        return link(findRoot(id1), findRoot(id2));
+    }
+
+    /** Merges the sets with the given roots, unless they are the same root. */
+    private boolean link(int root1, int root2) {
+        if (root1 == root2) {
+            return false;
+        }
+
+        // sizes are stored negated, so the more negative root is the larger set
+        if (this.parents[root1] > this.parents[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        this.parents[root1] += this.parents[root2];
+        this.parents[root2] = root1;
+        this.componentCount--;
+        return true;
+    }
+
+    /**
+     * Returns the ids of the sets containing each of the given ids, writing the id of the set
+     * containing ids[i] to out[i].
+     *
+     * @throws IllegalArgumentException if out is shorter than ids, or if any id has not been
+     *                                  created (in which case out is left unchanged)
+     */
+    public void findAll(int[] ids, int[] out) {
+        if (out.length < ids.length) {
+            throw new IllegalArgumentException(
+                "Output has length " + out.length + ", but needs at least " + ids.length);
+        }
+        checkIds(ids);
+        for (int i = 0; i < ids.length; i++) {
+            out[i] = findRoot(ids[i]);
+        }
+    }
+
+    /**
+     * Calls {@link #union} on each pair (ids1[i], ids2[i]) in order, and returns the number of
+     * pairs that merged two sets. If merged is not null, merged[i] records whether the i-th pair
+     * merged two sets.
+     *
+     * @throws IllegalArgumentException if the arrays have different lengths, or if any id has not
+     *                                  been created (in which case no sets are merged)
+     */
+    public int unionAll(int[] ids1, int[] ids2, boolean[] merged) {
+        if (ids1.length != ids2.length || (merged != null && merged.length < ids1.length)) {
+            throw new IllegalArgumentException("Array lengths do not match.");
+        }
+        checkIds(ids1);
+        checkIds(ids2);
+        int numMerged = 0;
+        for (int i = 0; i < ids1.length; i++) {
+            boolean didMerge = link(findRoot(ids1[i]), findRoot(ids2[i]));
+            if (merged != null) {
+                merged[i] = didMerge;
+            }
+            if (didMerge) {
+                numMerged++;
+            }
+        }
+        return numMerged;
+    }
+
+    /** Returns the first root at or after the given id, or `count` if there is none. */
+    private int nextRoot(int id) {
+        while (id < this.count && this.parents[id] >= 0) {
+            id++;
+        }
+        return id;
+    }
+
+    private void checkIds(int[] ids) {
+        for (int id : ids) {
+            checkId(id);
+        }
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= this.count) {
+            throw new IllegalArgumentException(id + " is not in any set.");
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.parents.length) {
+            this.parents = Arrays.copyOf(this.parents,
+                Math.max(capacity, Math.max(DEFAULT_CAPACITY, this.parents.length * 2)));
+        }
+    }
+
+    /**
+     * Returns the root of the tree containing the given id, pointing every id along the way
+     * directly at that root.
+     */
+    private int findRoot(int id) {
+        int root = id;
+        while (this.parents[root] >= 0) {
+            root = this.parents[root];
+        }
+        while (id != root) {
+            int next = this.parents[id];
+            this.parents[id] = root;
+            id = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,243 @@
+package disjointsets;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A quick-union-by-rank data structure with path halving over the dense long ids
+ * 0, 1, 2, ..., stored outside the Java heap.
+ *
+ * This is meant for collections too large for the heap, such as the cells of a 10^9-cell grid.
+ * Each id takes a single long: either the id of its parent, or, if the id is a root, the negated
+ * rank of its set minus one. The longs are stored in chunks of direct or memory-mapped buffers,
+ * so the data never moves during garbage collection and, when mapped, can exceed physical memory.
+ *
+ * Apart from using long ids, {@link #findSet} and {@link #union} follow the same contract as
+ * {@link DisjointSets}: ids are assigned in creation order, and unknown ids are rejected with an
+ * {@link IllegalArgumentException}.
+ *
+ * A collection stored in a file holds the file open until {@link #close} is called.
+ */
+public class OffHeapDisjointSets implements AutoCloseable {
+    private static final int DEFAULT_CHUNK_SHIFT = 27;
+    private static final int MIN_CHUNK_CAPACITY = 1024;
+
+    private final int chunkShift;
+    private final long chunkMask;
+    // Null if the chunks are direct buffers rather than regions of a file.
+    private final FileChannel file;
+    // Every chunk but the last holds exactly 2^chunkShift longs.
+    private final List<LongBuffer> chunks;
+    private int lastChunkCapacity;
+    private long count;
+
+    OffHeapDisjointSets(FileChannel file, int chunkShift) {
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.file = file;
+        this.chunks = new ArrayList<>();
+        this.lastChunkCapacity = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Creates an empty collection stored in direct (off-heap) buffers.
+     *
+     * Direct buffers count against the JVM's direct memory limit, set by
+     * {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size; growing past it
+     * throws an {@link OutOfMemoryError}. Use {@link #mapped} for more ids than that allows.
+     */
+    public static OffHeapDisjointSets allocateDirect() {
+        return new OffHeapDisjointSets(null, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates an empty collection stored in the given file, which is created or truncated and
+     * then mapped into memory as it grows. The file stays open until {@link #close} is called.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    public static OffHeapDisjointSets mapped(Path path) throws IOException {
+        // The mappings stay valid after the channel is closed, but we keep it open so that
+        // later chunks can be mapped.
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new OffHeapDisjointSets(channel, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Closes the backing file, if there is one. Existing sets can still be found and merged
+     * afterwards, but creating sets that need more room throws an {@link UncheckedIOException}.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.file != null) {
+            this.file.close();
+        }
+    }
+
+    /** Returns the number of ids created so far. */
+    public long size() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory (or file) reserved for the ids, including
+     * room for ids not yet created.
+     */
+    public long residentBytes() {
+        if (this.chunks.isEmpty()) {
+            return 0;
+        }
+        return (((long) (this.chunks.size() - 1) << this.chunkShift) + this.lastChunkCapacity)
+            * Long.BYTES;
+    }
+
+    /**
+     * Creates a new set containing just the next unused id, and returns that id.
+     *
+     * @throws UncheckedIOException if the backing file cannot be extended
+     */
+    public long makeSet() {
+        makeSets(1);
+        return this.count - 1;
+    }
+
+    /**
+     * Creates n new singleton sets for the next n unused ids.
+     *
+     * @throws IllegalArgumentException if n is negative
+     * @throws UncheckedIOException if the backing file cannot be extended
+     */
+    public void makeSets(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of sets must be non-negative, but was " + n);
+        }
+        ensureCapacity(this.count + n);
+        for (long id = this.count; id < this.count + n; id++) {
+            set(id, -1);
+        }
+        this.count += n;
+    }
+
+    /**
+     * Returns the id of the set containing the given id.
+     *
+     * @throws IllegalArgumentException if id has not been created
+     */
+    public long findSet(long id) {
+        checkId(id);
+        return findRoot(id);
+    }
+
+    /**
+     * If the given ids are in different sets, merges those sets and returns `true`. Otherwise,
+     * does nothing and returns `false`.
+     *
+     * @throws IllegalArgumentException if id1 or id2 has not been created
+     */
+    public boolean union(long id1, long id2) {
+        checkId(id1);
+        checkId(id2);
+        long root1 = findRoot(id1);
+        long root2 = findRoot(id2);
+        if (root1 == root2) {
+            return false;
+        }
+
+        // ranks are stored as -1 - rank, so the more negative root has the higher rank
+        long value1 = get(root1);
+        long value2 = get(root2);
+        if (value1 > value2) {
+            long temp = root1;
+            root1 = root2;
+            root2 = temp;
+        } else if (value1 == value2) {
+            set(root1, value1 - 1);
+        }
+        set(root2, root1);
+        return true;
+    }
+
+    private void checkId(long id) {
+        if (id < 0 || id >= this.count) {
+            throw new IllegalArgumentException(id + " is not in any set.");
+        }
+    }
+
+    /** Returns the root of the tree containing the given id, halving the path along the way. */
+    private long findRoot(long id) {
+        long parent = get(id);
+        while (parent >= 0) {
+            long grandparent = get(parent);
+            if (grandparent < 0) {
+                return parent;
+            }
+            set(id, grandparent);
+            id = grandparent;
+            parent = get(id);
+        }
+        return id;
+    }
+
+    private long get(long id) {
+        return this.chunks.get((int) (id >>> this.chunkShift)).get((int) (id & this.chunkMask));
+    }
+
+    private void set(long id, long value) {
+        this.chunks.get((int) (id >>> this.chunkShift)).put((int) (id & this.chunkMask), value);
+    }
+
+    private void ensureCapacity(long capacity) {
+        int fullChunkCapacity = 1 << this.chunkShift;
+        while (residentBytes() / Long.BYTES < capacity) {
+            if (this.chunks.isEmpty() || this.lastChunkCapacity == fullChunkCapacity) {
+                this.chunks.add(null);
+                this.lastChunkCapacity = 0;
+            }
+            long needed = capacity - ((long) (this.chunks.size() - 1) << this.chunkShift);
+            int newCapacity = Math.max(MIN_CHUNK_CAPACITY, this.lastChunkCapacity * 2);
+            while (newCapacity < needed && newCapacity < fullChunkCapacity) {
+                newCapacity *= 2;
+            }
+            newCapacity = Math.min(newCapacity, fullChunkCapacity);
+            growLastChunk(newCapacity);
+        }
+    }
+
+    /** Replaces the last chunk with a bigger one holding the same contents. */
+    private void growLastChunk(int newCapacity) {
+        int index = this.chunks.size() - 1;
+        LongBuffer old = this.chunks.get(index);
+        LongBuffer grown;
+        if (this.file == null) {
+            grown = ByteBuffer.allocateDirect(newCapacity * Long.BYTES)
+                .order(ByteOrder.nativeOrder()).asLongBuffer();
+            if (old != null) {
+                grown.put(old.duplicate().clear());
+            }
+        } else {
+            // Remapping the same region of the file keeps the old contents.
+            long offset = ((long) index << this.chunkShift) * Long.BYTES;
+            try {
+                grown = this.file.map(FileChannel.MapMode.READ_WRITE, offset,
+                        (long) newCapacity * Long.BYTES)
+                    .order(ByteOrder.nativeOrder()).asLongBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        this.chunks.set(index, grown);
+        this.lastChunkCapacity = newCapacity;
+    }
+}
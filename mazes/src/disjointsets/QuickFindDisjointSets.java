@@ -1,23 +1,29 @@
 package disjointsets;
 
 import java.util.HashMap;
+import java.util.PrimitiveIterator;
 
 /**
  * A basic {@link DisjointSets} implemented using a map.
  */
-public class QuickFindDisjointSets<T> implements DisjointSets<T> {
+public class QuickFindDisjointSets<T> implements SizedDisjointSets<T> {
 
     private final HashMap<T, Integer> ids;
+    private final HashMap<Integer, Integer> sizes;
     private int size;
 
     public QuickFindDisjointSets() {
         this.ids = new HashMap<>();
+        this.sizes = new HashMap<>();
         this.size = 0;
     }
 
     @Override
     public void makeSet(T item) {
-        this.ids.put(item, this.size);
+        if (this.ids.putIfAbsent(item, this.size) != null) {
+            throw new IllegalArgumentException(item + " is already in a set.");
+        }
+        this.sizes.put(this.size, 1);
         this.size++;
     }
 
@@ -41,7 +47,23 @@ public class QuickFindDisjointSets<T> implements DisjointSets<T> {
 
         // replace all instances of id1 with id2
         this.ids.replaceAll((item, rep) -> rep == id1 ? id2 : rep);
+        this.sizes.put(id2, this.sizes.get(id2) + this.sizes.remove(id1));
 
         return true;
     }
+
+    @Override
+    public int componentCount() {
+        return this.sizes.size();
+    }
+
+    @Override
+    public int sizeOf(T item) {
+        return this.sizes.get(findSet(item));
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt representatives() {
+        return this.sizes.keySet().stream().mapToInt(Integer::intValue).iterator();
+    }
 }
@@ -0,0 +1,199 @@
+package disjointsets;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A quick-union-by-size data structure that can undo unions.
+ *
+ * Every successful {@link #union} is recorded in an undo log. {@link #checkpoint} marks the
+ * current position in that log, and {@link #rollback} undoes every union made since a given
+ * checkpoint in time proportional to the number of unions undone. Paths are not compressed,
+ * since compression would change trees in ways the log cannot cheaply undo; union by size alone
+ * still keeps trees logarithmically shallow.
+ *
+ * Rolling back only undoes unions: sets created by {@link #makeSet} after a checkpoint remain,
+ * as singletons.
+ *
+ * @see SizedDisjointSets for more documentation.
+ */
+public class RollbackDisjointSets<T> implements SizedDisjointSets<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] parents;
+    private int[] sizes;
+    private int count;
+    private int componentCount;
+    // The roots that were linked under another root, in the order the unions happened.
+    private int[] log;
+    private int logSize;
+    // The checkpoints that are still valid, oldest first, and the log size when each was taken.
+    // Positions strictly increase, and tokens are never reused, so stale checkpoints are rejected.
+    private int[] checkpointTokens;
+    private int[] checkpointPositions;
+    private int checkpointCount;
+    private int nextToken;
+    private final Map<T, Integer> indices;
+
+    public RollbackDisjointSets() {
+        this.parents = new int[DEFAULT_CAPACITY];
+        this.sizes = new int[DEFAULT_CAPACITY];
+        this.count = 0;
+        this.componentCount = 0;
+        this.log = new int[DEFAULT_CAPACITY];
+        this.logSize = 0;
+        this.checkpointTokens = new int[DEFAULT_CAPACITY];
+        this.checkpointPositions = new int[DEFAULT_CAPACITY];
+        this.checkpointCount = 0;
+        this.nextToken = 0;
+        this.indices = new HashMap<>();
+    }
+
+    @Override
+    public void makeSet(T item) {
+        if (this.indices.putIfAbsent(item, this.count) != null) {
+            throw new IllegalArgumentException(item + " is already in a set.");
+        }
+        if (this.count == this.parents.length) {
+            this.parents = Arrays.copyOf(this.parents, this.count * 2);
+            this.sizes = Arrays.copyOf(this.sizes, this.count * 2);
+        }
+        this.parents[this.count] = this.count;
+        this.sizes[this.count] = 1;
+        this.count++;
+        this.componentCount++;
+    }
+
+    @Override
+    public int findSet(T item) {
+        return findRoot(indexOf(item));
+    }
+
+    @Override
+    public boolean union(T item1, T item2) {
+        int root1 = findRoot(indexOf(item1));
+        int root2 = findRoot(indexOf(item2));
+        if (root1 == root2) {
+            return false;
+        }
+        if (this.sizes[root1] < this.sizes[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        this.parents[root2] = root1;
+        this.sizes[root1] += this.sizes[root2];
+
+        if (this.logSize == this.log.length) {
+            this.log = Arrays.copyOf(this.log, this.logSize * 2);
+        }
+        this.log[this.logSize] = root2;
+        this.logSize++;
+        this.componentCount--;
+        return true;
+    }
+
+    @Override
+    public int componentCount() {
+        return this.componentCount;
+    }
+
+    @Override
+    public int sizeOf(T item) {
+        return this.sizes[findRoot(indexOf(item))];
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt representatives() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = nextRoot(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next < count;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int root = this.next;
+                this.next = nextRoot(root + 1);
+                return root;
+            }
+        };
+    }
+
+    /**
+     * Returns a checkpoint representing the current state of the sets, which can later be passed
+     * to {@link #rollback}.
+     */
+    public int checkpoint() {
+        int last = this.checkpointCount - 1;
+        if (last >= 0 && this.checkpointPositions[last] == this.logSize) {
+            return this.checkpointTokens[last];
+        }
+        if (this.checkpointCount == this.checkpointTokens.length) {
+            this.checkpointTokens = Arrays.copyOf(this.checkpointTokens, this.checkpointCount * 2);
+            this.checkpointPositions = Arrays.copyOf(this.checkpointPositions, this.checkpointCount * 2);
+        }
+        this.checkpointTokens[this.checkpointCount] = this.nextToken;
+        this.checkpointPositions[this.checkpointCount] = this.logSize;
+        this.checkpointCount++;
+        return this.nextToken++;
+    }
+
+    /**
+     * Undoes every successful union made since the given checkpoint was taken.
+     *
+     * A checkpoint stays valid until the sets are rolled back to a checkpoint taken before it;
+     * after that, it stays invalid even once as many unions have been made again.
+     *
+     * @throws IllegalArgumentException if the checkpoint was not returned by {@link #checkpoint}
+     *                                  or is no longer valid
+     */
+    public void rollback(int checkpoint) {
+        int i = Arrays.binarySearch(this.checkpointTokens, 0, this.checkpointCount, checkpoint);
+        if (i < 0) {
+            throw new IllegalArgumentException("Invalid checkpoint: " + checkpoint);
+        }
+        // every later checkpoint is of a state being undone
+        this.checkpointCount = i + 1;
+        int position = this.checkpointPositions[i];
+        while (this.logSize > position) {
+            this.logSize--;
+            int child = this.log[this.logSize];
+            int parent = this.parents[child];
+            this.sizes[parent] -= this.sizes[child];
+            this.parents[child] = child;
+            this.componentCount++;
+        }
+    }
+
+    private int indexOf(T item) {
+        Integer index = this.indices.get(item);
+        if (index == null) {
+            throw new IllegalArgumentException(item + " is not in any set.");
+        }
+        return index;
+    }
+
+    /** Returns the first root at or after the given index, or `count` if there is none. */
+    private int nextRoot(int index) {
+        while (index < this.count && this.parents[index] != index) {
+            index++;
+        }
+        return index;
+    }
+
+    private int findRoot(int index) {
+        while (this.parents[index] != index) {
+            index = this.parents[index];
+        }
+        return index;
+    }
+}
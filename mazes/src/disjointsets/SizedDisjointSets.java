@@ -0,0 +1,29 @@
+package disjointsets;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link DisjointSets} that also keeps track of how many sets there are and how big they are.
+ *
+ * The counts are maintained as sets are created and merged, so {@link #componentCount} and
+ * {@link #sizeOf} take constant time (plus the cost of finding the item's set).
+ *
+ * @param <T> The type of the items contained.
+ */
+public interface SizedDisjointSets<T> extends DisjointSets<T> {
+    /** Returns the number of disjoint sets. */
+    int componentCount();
+
+    /**
+     * Returns the number of items in the set containing the given item.
+     *
+     * @throws IllegalArgumentException  if `item` is not contained in any of these sets
+     */
+    int sizeOf(T item);
+
+    /**
+     * Returns an iterator over the integer ids of all the sets, as would be returned by
+     * {@link #findSet}. The iterator is invalidated by any later call to {@link #union}.
+     */
+    PrimitiveIterator.OfInt representatives();
+}
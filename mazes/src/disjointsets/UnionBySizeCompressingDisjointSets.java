@@ -1,74 +1,87 @@
 package disjointsets;
-import java.util.ArrayList;
-import java.util.HashSet;
+
+import java.util.AbstractList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
 
 /**
  * A quick-union-by-size data structure with path compression.
- * @see DisjointSets for more documentation.
+ *
+ * Each item is mapped to an integer index once, in {@link #makeSet}; after that, all tree
+ * operations are delegated to an {@link IntDisjointSets}, so {@link #findSet} and {@link #union}
+ * run in amortized near-constant time and do not allocate.
+ *
+ * @see SizedDisjointSets for more documentation.
  */
-public class UnionBySizeCompressingDisjointSets<T> implements DisjointSets<T> {
+public class UnionBySizeCompressingDisjointSets<T> implements SizedDisjointSets<T> {
     // Do NOT rename or delete this field. We will be inspecting it directly in our private tests.
-    List<Integer> pointers;
-    public HashSet<T> newSet;
-    public List<Integer> size;
-    public List<Integer> id;
     /*
-    However, feel free to add more fields and private helper methods. You will probably need to
-    add one or two more fields in order to successfully implement this class.
+    A read-only view of the underlying parent array: for each index, either the index of its
+    parent, or, if the index is a root, the negated size of its set.
     */
+    List<Integer> pointers;
+    private final IntDisjointSets sets;
+    private final Map<T, Integer> indices;
 
     public UnionBySizeCompressingDisjointSets() {
-        pointers = new ArrayList<>();
-        newSet = new HashSet<>();
-        size = new ArrayList<>();
-        id = new ArrayList<>();
+        this.sets = new IntDisjointSets();
+        this.indices = new HashMap<>();
+        this.pointers = new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                if (index < 0 || index >= sets.size()) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return sets.parents[index];
+            }
+
+            @Override
+            public int size() {
+                return sets.size();
+            }
+        };
     }
 
     @Override
     public void makeSet(T item) {
-        pointers.add(newSet.size() - 1);
-        newSet.add(item);
-        size.add(1);
-        id.add(id.size());
-
+        if (this.indices.putIfAbsent(item, this.sets.size()) != null) {
+            throw new IllegalArgumentException(item + " is already in a set.");
+        }
+        this.sets.makeSet();
     }
 
     @Override
     public int findSet(T item) {
-        int index = new ArrayList<>(newSet).indexOf(item);
-        if (index < 0) {
-            throw new IllegalArgumentException("Index smaller than 0");
-        }
-        int root = index;
-        while (root != id.get(root)) {
-            id.set(root, id.get(id.get(root)));
-            root = id.get(root);
-        }
-        return root;
+        return this.sets.find(indexOf(item));
     }
 
     @Override
     public boolean union(T item1, T item2) {
-        int index1 = new ArrayList<>(newSet).indexOf(item1);
-        int index2 = new ArrayList<>(newSet).indexOf(item2);
-        if (index1 < 0 || index2 < 0) {
-            throw new IllegalArgumentException("Not in disjoint set");
-        }
-        int root1 = findSet(item1);
-        int root2 = findSet(item2);
-        if (root1 == root2) {
-            return false;
-        }
-        if (size.get(root1) > size.get(root2)) {
-            id.set(root2, root1);
-            size.set(root1, size.get(root1) + size.get(root2));
-            pointers.set(root1, root1);
-        } else {
-            id.set(root1, root2);
-            size.set(root2, size.get(root2) + size.get(root1));
-            pointers.set(root2, root2);
+        return this.sets.union(indexOf(item1), indexOf(item2));
+    }
+
+    @Override
+    public int componentCount() {
+        return this.sets.componentCount();
+    }
+
+    @Override
+    public int sizeOf(T item) {
+        return this.sets.sizeOf(indexOf(item));
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt representatives() {
+        return this.sets.representatives();
+    }
+
+    private int indexOf(T item) {
+        Integer index = this.indices.get(item);
+        if (index == null) {
+            throw new IllegalArgumentException(item + " is not in any set.");
         }
-        return true;
+        return index;
     }
 }
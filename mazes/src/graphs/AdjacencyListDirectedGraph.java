@@ -0,0 +1,196 @@
+package graphs;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A directed graph stored as an adjacency list, with a reverse adjacency list so that a vertex's
+ * incoming edges can be found as quickly as its outgoing edges, as backward and bidirectional
+ * searches need.
+ *
+ * Each edge object is stored once, in {@link #allEdges}. Each vertex keeps two compact lists of
+ * indices into it: one of its outgoing edges and one of its incoming edges. Both lists are filled
+ * in the same pass over the edges, and the reverse list costs one int per edge, plus the unused
+ * capacity of each vertex's array.
+ *
+ * @param <V> The vertex type
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public class AdjacencyListDirectedGraph<V, E extends BaseEdge<V, E>> implements Graph<V, E> {
+    private static final int[] NO_IDS = new int[0];
+
+    private final List<E> allEdges;
+    private final Map<V, Adjacency> adjacencyList;
+
+    /**
+     * Constructs a new graph with the given edges.
+     *
+     * Ignores duplicate edges (edges that are {@code equals}).
+     *
+     * @param edges The edges in the graph.
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public AdjacencyListDirectedGraph(Collection<E> edges) {
+        this.allEdges = new ArrayList<>();
+        this.adjacencyList = new HashMap<>();
+        edges.forEach(e -> {
+            if (e.from() == null || e.to() == null) {
+                throw new NullPointerException(
+                    "Graph edge contains a null vertex, but null vertices are not supported.");
+            }
+            Adjacency from = adjacencyList.computeIfAbsent(e.from(), v -> new Adjacency());
+            Adjacency to = adjacencyList.computeIfAbsent(e.to(), v -> new Adjacency());
+            if (from.outgoing.containsEdge(e)) {
+                return;
+            }
+            int id = allEdges.size();
+            allEdges.add(e);
+            from.outgoing.addId(id);
+            to.incoming.addId(id);
+        });
+        // the lookup sets are only needed to find duplicates while building
+        this.adjacencyList.values().forEach(adjacency -> adjacency.outgoing.edgeSet = null);
+    }
+
+    @Override
+    public Set<E> outgoingEdgesFrom(V vertex) {
+        Adjacency adjacency = adjacencyList.get(vertex);
+        return adjacency == null ? Set.of() : adjacency.outgoing;
+    }
+
+    /**
+     * Returns an unmodifiable set of the incoming edges to the given vertex, in the order they
+     * were given to the constructor.
+     *
+     * If given vertex is not in the graph, returns an empty set.
+     */
+    public Set<E> incomingEdgesTo(V vertex) {
+        Adjacency adjacency = adjacencyList.get(vertex);
+        return adjacency == null ? Set.of() : adjacency.incoming;
+    }
+
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        Adjacency adjacency = adjacencyList.get(vertex);
+        if (adjacency != null) {
+            adjacency.outgoing.forEachEdge(action);
+        }
+    }
+
+    /**
+     * Calls the given action on each incoming edge to the given vertex, in the same order as
+     * {@link #incomingEdgesTo}.
+     *
+     * If given vertex is not in the graph, does nothing.
+     */
+    public void forEachIncomingEdge(V vertex, Consumer<? super E> action) {
+        Adjacency adjacency = adjacencyList.get(vertex);
+        if (adjacency != null) {
+            adjacency.incoming.forEachEdge(action);
+        }
+    }
+
+    /** Returns an unmodifiable set of all vertices that are the source or target of an edge. */
+    public Set<V> allVertices() {
+        return Collections.unmodifiableSet(this.adjacencyList.keySet());
+    }
+
+    /** Returns an unmodifiable list of all edges, in the order they were given to the constructor. */
+    public List<E> allEdges() {
+        return Collections.unmodifiableList(this.allEdges);
+    }
+
+    /** A vertex's outgoing and incoming edges. */
+    private class Adjacency {
+        // only the outgoing edges are checked for duplicates
+        final EdgeIds outgoing = new EdgeIds(true);
+        final EdgeIds incoming = new EdgeIds(false);
+    }
+
+    /** An unmodifiable set view of the edges with the given indices in allEdges. */
+    private class EdgeIds extends AbstractSet<E> {
+        // Above this many edges, duplicates are found by hashing instead of by scanning.
+        private static final int MAX_SCANNED_EDGES = 16;
+
+        private int[] ids = NO_IDS;
+        private int size = 0;
+        // While building, a set of these edges, if there are too many to scan; otherwise null.
+        private Set<E> edgeSet = null;
+        private final boolean findsDuplicates;
+
+        EdgeIds(boolean findsDuplicates) {
+            this.findsDuplicates = findsDuplicates;
+        }
+
+        void addId(int id) {
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, Math.max(4, 2 * this.size));
+            }
+            this.ids[this.size] = id;
+            this.size++;
+            if (this.edgeSet != null) {
+                this.edgeSet.add(allEdges.get(id));
+            } else if (this.findsDuplicates && this.size > MAX_SCANNED_EDGES) {
+                this.edgeSet = new HashSet<>();
+                for (int i = 0; i < this.size; i++) {
+                    this.edgeSet.add(allEdges.get(this.ids[i]));
+                }
+            }
+        }
+
+        /** Returns true if the given edge was added while building. */
+        boolean containsEdge(E e) {
+            if (this.edgeSet != null) {
+                return this.edgeSet.contains(e);
+            }
+            for (int i = 0; i < this.size; i++) {
+                if (allEdges.get(this.ids[i]).equals(e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void forEachEdge(Consumer<? super E> action) {
+            for (int i = 0; i < this.size; i++) {
+                action.accept(allEdges.get(this.ids[i]));
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return allEdges.get(ids[this.next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
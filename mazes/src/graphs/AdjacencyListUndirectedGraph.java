@@ -1,22 +1,34 @@
 package graphs;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * An undirected graph stored as an adjacency list.
  *
+ * Each edge object is stored once, in {@link #allEdges}. A vertex's adjacency list holds the ids
+ * of its outgoing edges, each with a bit saying whether the stored edge points the other way; the
+ * reversed edges returned by {@link #outgoingEdgesFrom} are created each time they are accessed,
+ * so they are equal to, but not the same objects as, the edges returned by earlier calls.
+ *
  * @param <V> The vertex type
  * @param <E> The edge type. Must be a subtype of {@link Edge}.
  */
 public class AdjacencyListUndirectedGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E> {
     private final List<E> allEdges;
+    private final Map<V, OutgoingEdges> outgoing;
+    // An unmodifiable view of each vertex's outgoing edges, kept for subclasses.
     protected final Map<V, Set<E>> adjacencyList;
 
     /**
@@ -30,31 +42,152 @@ public class AdjacencyListUndirectedGraph<V, E extends BaseEdge<V, E>> implement
      */
     public AdjacencyListUndirectedGraph(Collection<E> edges) {
         this.allEdges = new ArrayList<>();
-        this.adjacencyList = new HashMap<>();
+        this.outgoing = new HashMap<>();
+        this.adjacencyList = Collections.unmodifiableMap(this.outgoing);
         edges.forEach(e -> {
             if (e.from() == null || e.to() == null) {
                 throw new NullPointerException(
                     "Graph edge contains a null vertex, but null vertices are not supported.");
             }
-            if (adjacencyList.computeIfAbsent(e.from(), v -> new HashSet<>()).add(e)) {
-                allEdges.add(e);
+            OutgoingEdges fromEdges = outgoing.computeIfAbsent(e.from(), v -> new OutgoingEdges());
+            OutgoingEdges toEdges = outgoing.computeIfAbsent(e.to(), v -> new OutgoingEdges());
+            if (fromEdges.containsForward(e) || toEdges.containsReverseOf(e)) {
+                return;
+            }
+            int id = 2 * allEdges.size();
+            allEdges.add(e);
+            fromEdges.addId(id);
+            // a self-loop is its own reverse, so it only appears once
+            if (fromEdges != toEdges) {
+                toEdges.addId(id + 1);
             }
-            adjacencyList.computeIfAbsent(e.to(), v -> new HashSet<>()).add(e.reversed());
         });
+        // the lookup sets are only needed to find duplicates while building
+        this.outgoing.values().forEach(vertexEdges -> vertexEdges.forwardEdges = null);
     }
 
     @Override
     public Set<E> outgoingEdgesFrom(V vertex) {
-        return Collections.unmodifiableSet(adjacencyList.getOrDefault(vertex, Set.of()));
+        Set<E> edges = outgoing.get(vertex);
+        return edges == null ? Set.of() : edges;
+    }
+
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        OutgoingEdges edges = outgoing.get(vertex);
+        if (edges != null) {
+            for (int i = 0; i < edges.size; i++) {
+                action.accept(edge(edges.ids[i]));
+            }
+        }
     }
 
     @Override
     public Set<V> allVertices() {
-        return Collections.unmodifiableSet(this.adjacencyList.keySet());
+        return Collections.unmodifiableSet(this.outgoing.keySet());
     }
 
     @Override
     public List<E> allEdges() {
         return Collections.unmodifiableList(this.allEdges);
     }
+
+    /** Returns the edge with the given id, creating it if the id is for a reversed edge. */
+    private E edge(int id) {
+        E e = this.allEdges.get(id >>> 1);
+        return (id & 1) == 0 ? e : e.reversed();
+    }
+
+    /**
+     * An unmodifiable set view of a vertex's outgoing edges. Each id is 2 * (index of the edge
+     * in allEdges), plus 1 if the edge is reversed.
+     */
+    private class OutgoingEdges extends AbstractSet<E> {
+        // Above this many edges, duplicates are found by hashing instead of by scanning.
+        private static final int MAX_SCANNED_EDGES = 16;
+
+        private int[] ids = new int[4];
+        private int size = 0;
+        // While building, a set of the edges stored with this vertex as their source, if there
+        // are too many to scan; otherwise null.
+        private Set<E> forwardEdges = null;
+
+        void addId(int id) {
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, 2 * this.size);
+            }
+            this.ids[this.size] = id;
+            this.size++;
+            if (this.forwardEdges != null) {
+                if ((id & 1) == 0) {
+                    this.forwardEdges.add(allEdges.get(id >>> 1));
+                }
+            } else if (this.size > MAX_SCANNED_EDGES) {
+                this.forwardEdges = new HashSet<>();
+                for (int i = 0; i < this.size; i++) {
+                    if ((this.ids[i] & 1) == 0) {
+                        this.forwardEdges.add(allEdges.get(this.ids[i] >>> 1));
+                    }
+                }
+            }
+        }
+
+        /** Returns true if the given edge is stored with this vertex as its source. */
+        boolean containsForward(E e) {
+            if (this.forwardEdges != null) {
+                return this.forwardEdges.contains(e);
+            }
+            for (int i = 0; i < this.size; i++) {
+                if ((this.ids[i] & 1) == 0 && allEdges.get(this.ids[i] >>> 1).equals(e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if the reverse of the given edge, which points to this vertex, is stored
+         * with this vertex as its source.
+         */
+        boolean containsReverseOf(E e) {
+            if (this.forwardEdges != null) {
+                return this.forwardEdges.contains(e.reversed());
+            }
+            for (int i = 0; i < this.size; i++) {
+                if ((this.ids[i] & 1) == 0) {
+                    E stored = allEdges.get(this.ids[i] >>> 1);
+                    // check the endpoint first to avoid creating the reversed edge
+                    if (stored.to().equals(e.from()) && stored.equals(e.reversed())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return edge(ids[this.next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
 }
@@ -0,0 +1,312 @@
+package graphs;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable undirected graph stored in compressed sparse row (CSR) form.
+ *
+ * Each vertex is assigned an index from 0 to {@code vertexCount() - 1} by a {@link VertexIndex},
+ * which algorithms can share through {@link #vertexIndex}. The outgoing edges of
+ * vertex i occupy the slots {@code offsets[i]} through {@code offsets[i + 1] - 1} of three
+ * parallel arrays holding each edge's target index, weight, and source edge. So the graph takes a
+ * few primitive array entries per edge, and no objects per vertex beyond its index entry.
+ *
+ * The graphs returned by {@link #withFloatWeights} and {@link #withQuantizedWeights} instead keep
+ * a float or a 16-bit weight per slot, rather than a double, so the weights of each edge's two
+ * slots take 8 or 4 bytes instead of 16, and are still read in slot order. Algorithms that read
+ * weights through {@link #forEachOutgoing}, {@link #weight}, or {@link #edgesByWeight} see the
+ * packed weights, while the edge objects keep their exact weights.
+ *
+ * Each edge object is stored once, in the direction it was given. The reversed edges returned by
+ * {@link #outgoingEdgesFrom} are created each time they are accessed, so they are equal to, but
+ * not the same objects as, the edges returned by earlier calls.
+ *
+ * @param <V> The vertex type
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public class CsrGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E>, IndexedGraph<V, E> {
+    private final List<E> allEdges;
+    private final VertexIndex<V> vertexIndex;
+    private final int[] offsets;
+    private final int[] targets;
+    // Null if the weights are packed.
+    private final double[] weights;
+    // Null unless the weights are packed.
+    private final PackedWeights packedWeights;
+    // For each slot, 2 * (index of its edge in allEdges), plus 1 if the edge is reversed.
+    private final int[] edgeIds;
+
+    /**
+     * Constructs a new graph with the given edges.
+     *
+     * Ignores duplicate edges exactly as {@link AdjacencyListUndirectedGraph} does (edges that
+     * are exactly equal according to the {@code equals} method, or edges that would be equal if
+     * their directions were flipped), so the two graphs have the same edges.
+     *
+     * @param edges The edges in the graph.
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public CsrGraph(Collection<E> edges) {
+        this(edges, null);
+    }
+
+    /**
+     * Constructs a new graph with the given edges, as the public constructor does, but stores
+     * their weights as floats.
+     *
+     * Searches and spanning trees computed from float weights may break near-ties between paths
+     * or edges differently than with exact weights, but report the exact weights of the edges
+     * they choose.
+     *
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public static <V, E extends BaseEdge<V, E>> CsrGraph<V, E> withFloatWeights(Collection<E> edges) {
+        return new CsrGraph<>(edges, PackedWeights::floats);
+    }
+
+    /**
+     * Constructs a new graph with the given edges, as the public constructor does, but stores
+     * each weight as the nearest multiple of scale, using 16 bits. For example, maze walls whose
+     * lengths are whole pixels up to 65535 can use a scale of 1 and lose nothing.
+     *
+     * Weights that round to the same multiple are treated as equal: Dijkstra's algorithm may
+     * return any of the paths that are shortest after rounding, and Kruskal's algorithm adds
+     * edges of equal rounded weight in the order of {@link #allEdges}. The returned paths and
+     * trees report the exact weights of their edges.
+     *
+     * @throws IllegalArgumentException if scale is not positive, or if a weight is negative or
+     *                                  rounds to more than 65535 times scale
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public static <V, E extends BaseEdge<V, E>> CsrGraph<V, E> withQuantizedWeights(Collection<E> edges,
+                                                                                   double scale) {
+        return new CsrGraph<>(edges, numSlots -> PackedWeights.quantized(numSlots, scale));
+    }
+
+    // packer is null to store each slot's exact weight
+    private CsrGraph(Collection<E> edges, IntFunction<PackedWeights> packer) {
+        this.allEdges = new ArrayList<>();
+        this.vertexIndex = new VertexIndex<>();
+        Set<E> seen = new HashSet<>();
+        for (E e : edges) {
+            if (e.from() == null || e.to() == null) {
+                throw new NullPointerException(
+                    "Graph edge contains a null vertex, but null vertices are not supported.");
+            }
+            this.vertexIndex.intern(e.from());
+            this.vertexIndex.intern(e.to());
+            if (!seen.contains(e) && !seen.contains(e.reversed())) {
+                seen.add(e);
+                this.allEdges.add(e);
+            }
+        }
+
+        // count each vertex's degree, then place each edge at its vertex's next free slot
+        int numVertices = this.vertexIndex.size();
+        int[] froms = new int[this.allEdges.size()];
+        int[] tos = new int[this.allEdges.size()];
+        this.offsets = new int[numVertices + 1];
+        for (int i = 0; i < froms.length; i++) {
+            E e = this.allEdges.get(i);
+            froms[i] = this.vertexIndex.indexOf(e.from());
+            tos[i] = this.vertexIndex.indexOf(e.to());
+            this.offsets[froms[i] + 1]++;
+            // a self-loop is its own reverse, so it only gets one slot
+            if (froms[i] != tos[i]) {
+                this.offsets[tos[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < numVertices; i++) {
+            this.offsets[i + 1] += this.offsets[i];
+        }
+
+        int numSlots = this.offsets[numVertices];
+        this.targets = new int[numSlots];
+        this.edgeIds = new int[numSlots];
+        if (packer == null) {
+            this.weights = new double[numSlots];
+            this.packedWeights = null;
+        } else {
+            this.weights = null;
+            this.packedWeights = packer.apply(numSlots);
+        }
+        int[] nextSlots = Arrays.copyOf(this.offsets, numVertices);
+        for (int i = 0; i < froms.length; i++) {
+            double weight = this.allEdges.get(i).weight();
+            fill(nextSlots[froms[i]]++, tos[i], weight, 2 * i);
+            if (froms[i] != tos[i]) {
+                fill(nextSlots[tos[i]]++, froms[i], weight, 2 * i + 1);
+            }
+        }
+    }
+
+    /** Constructs a graph from arrays already laid out as described in the class comment. */
+    CsrGraph(List<E> allEdges, VertexIndex<V> vertexIndex, int[] offsets, int[] targets,
+             double[] weights, int[] edgeIds) {
+        this.allEdges = allEdges;
+        this.vertexIndex = vertexIndex;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.packedWeights = null;
+        this.edgeIds = edgeIds;
+    }
+
+    private void fill(int slot, int target, double weight, int edgeId) {
+        this.targets[slot] = target;
+        if (this.weights != null) {
+            this.weights[slot] = weight;
+        } else {
+            this.packedWeights.set(slot, weight);
+        }
+        this.edgeIds[slot] = edgeId;
+    }
+
+    /**
+     * Returns the index assigning each vertex of this graph its id. Callers may look up ids in it,
+     * but must not intern new vertices into it.
+     */
+    public VertexIndex<V> vertexIndex() {
+        return this.vertexIndex;
+    }
+
+    @Override
+    public int vertexCount() {
+        return this.vertexIndex.size();
+    }
+
+    @Override
+    public int indexOf(V vertex) {
+        return this.vertexIndex.indexOf(vertex);
+    }
+
+    @Override
+    public V vertex(int index) {
+        return this.vertexIndex.vertex(index);
+    }
+
+    /**
+     * Returns the first slot holding an outgoing edge of the vertex with the given index. Its
+     * edges occupy the slots from this up to, but not including, {@code slotEnd(index)}.
+     */
+    public int slotStart(int index) {
+        return this.offsets[index];
+    }
+
+    /** Returns one past the last slot holding an outgoing edge of the vertex with the given index. */
+    public int slotEnd(int index) {
+        return this.offsets[index + 1];
+    }
+
+    /** Returns the index of the vertex that the edge in the given slot points to. */
+    public int target(int slot) {
+        return this.targets[slot];
+    }
+
+    /** Returns the weight of the edge in the given slot. */
+    public double weight(int slot) {
+        if (this.weights == null) {
+            return this.packedWeights.get(slot);
+        }
+        return this.weights[slot];
+    }
+
+    @Override
+    public void forEachOutgoing(int vertexId, NeighborVisitor visitor) {
+        if (this.weights == null) {
+            for (int slot = this.offsets[vertexId]; slot < this.offsets[vertexId + 1]; slot++) {
+                visitor.visit(this.targets[slot], this.packedWeights.get(slot));
+            }
+            return;
+        }
+        for (int slot = this.offsets[vertexId]; slot < this.offsets[vertexId + 1]; slot++) {
+            visitor.visit(this.targets[slot], this.weights[slot]);
+        }
+    }
+
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        int index = this.vertexIndex.indexOf(vertex);
+        if (index >= 0) {
+            for (int slot = this.offsets[index]; slot < this.offsets[index + 1]; slot++) {
+                action.accept(edge(slot));
+            }
+        }
+    }
+
+    @Override
+    public List<E> outgoingEdgesFrom(V vertex) {
+        int index = this.vertexIndex.indexOf(vertex);
+        if (index < 0) {
+            return List.of();
+        }
+        int start = this.offsets[index];
+        int end = this.offsets[index + 1];
+        return new AbstractList<>() {
+            @Override
+            public E get(int i) {
+                if (i < 0 || i >= end - start) {
+                    throw new IndexOutOfBoundsException(i);
+                }
+                return edge(start + i);
+            }
+
+            @Override
+            public int size() {
+                return end - start;
+            }
+        };
+    }
+
+    /** Returns the edge in the given slot, creating it if it is a reversed edge. */
+    private E edge(int slot) {
+        int edgeId = this.edgeIds[slot];
+        E e = this.allEdges.get(edgeId >>> 1);
+        return (edgeId & 1) == 0 ? e : e.reversed();
+    }
+
+    @Override
+    public List<V> allVertices() {
+        return this.vertexIndex.vertices();
+    }
+
+    @Override
+    public List<E> allEdges() {
+        return Collections.unmodifiableList(this.allEdges);
+    }
+
+    /**
+     * Returns all edges sorted by weight, ties in the order of {@link #allEdges}. If the weights
+     * are packed, edges are sorted by their packed weights, using a primitive sort.
+     */
+    @Override
+    public List<E> edgesByWeight() {
+        if (this.weights != null) {
+            return KruskalGraph.super.edgesByWeight();
+        }
+        // each edge's unreversed slot gives its key; the edge index in the low bits keeps equal
+        // weights in order
+        long[] keys = new long[this.allEdges.size()];
+        for (int slot = 0; slot < this.edgeIds.length; slot++) {
+            int edgeId = this.edgeIds[slot];
+            if ((edgeId & 1) == 0) {
+                keys[edgeId >>> 1] = ((long) this.packedWeights.sortKey(slot) << 32) | (edgeId >>> 1);
+            }
+        }
+        Arrays.sort(keys);
+        List<E> edges = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            edges.add(this.allEdges.get((int) key));
+        }
+        return edges;
+    }
+}
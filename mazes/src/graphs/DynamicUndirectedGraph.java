@@ -0,0 +1,241 @@
+package graphs;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An undirected graph that supports adding and removing edges in O(1) expected time.
+ *
+ * Like {@link AdjacencyListUndirectedGraph}, each edge object is stored once, and each vertex
+ * keeps a compact list of ids of its outgoing edges, with a bit saying whether the stored edge
+ * points the other way. Each edge also remembers its position in both endpoints' lists, so
+ * removing it swaps the last id of each list into its place, and swaps the last edge into its
+ * slot in {@link #allEdges}. As a result, removing an edge may change the order of the other
+ * edges.
+ *
+ * The collections returned by {@link #outgoingEdgesFrom}, {@link #allVertices}, and
+ * {@link #allEdges} are unmodifiable views that reflect later changes to the graph. Vertices stay
+ * in the graph after their last edge is removed.
+ *
+ * @param <V> The vertex type
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public class DynamicUndirectedGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final List<E> allEdges;
+    // The index in allEdges of each edge, in the direction it was added.
+    private final Map<E, Integer> edgeIndices;
+    // For each edge index, the position of its id in its source's and its target's lists.
+    private int[] fromPositions;
+    private int[] toPositions;
+    private final Map<V, OutgoingEdges> adjacencyList;
+
+    /** Constructs a new graph with no vertices or edges. */
+    public DynamicUndirectedGraph() {
+        this.allEdges = new ArrayList<>();
+        this.edgeIndices = new HashMap<>();
+        this.fromPositions = new int[DEFAULT_CAPACITY];
+        this.toPositions = new int[DEFAULT_CAPACITY];
+        this.adjacencyList = new HashMap<>();
+    }
+
+    /**
+     * Constructs a new graph with the given edges.
+     *
+     * Ignores duplicate edges exactly as {@link AdjacencyListUndirectedGraph} does (edges that
+     * are exactly equal according to the {@code equals} method, or edges that would be equal if
+     * their directions were flipped).
+     *
+     * @param edges The edges in the graph.
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public DynamicUndirectedGraph(Collection<E> edges) {
+        this();
+        edges.forEach(this::addEdge);
+    }
+
+    /**
+     * Adds the given vertex, with no edges, if it is not already in the graph.
+     *
+     * @return true if the vertex was added; false if it was already in the graph
+     * @throws NullPointerException if vertex is null
+     */
+    public boolean addVertex(V vertex) {
+        if (vertex == null) {
+            throw new NullPointerException("Null vertices are not supported.");
+        }
+        return this.adjacencyList.putIfAbsent(vertex, new OutgoingEdges()) == null;
+    }
+
+    /**
+     * Adds the given edge, and its endpoints if they are not already in the graph, unless the
+     * edge or its reverse is already in the graph.
+     *
+     * @return true if the edge was added; false if it was a duplicate
+     * @throws NullPointerException if edge is null or has a null vertex
+     */
+    public boolean addEdge(E edge) {
+        if (edge.from() == null || edge.to() == null) {
+            throw new NullPointerException(
+                "Graph edge contains a null vertex, but null vertices are not supported.");
+        }
+        if (containsEdge(edge)) {
+            return false;
+        }
+        int index = this.allEdges.size();
+        if (index == this.fromPositions.length) {
+            this.fromPositions = Arrays.copyOf(this.fromPositions, 2 * index);
+            this.toPositions = Arrays.copyOf(this.toPositions, 2 * index);
+        }
+        this.allEdges.add(edge);
+        this.edgeIndices.put(edge, index);
+
+        OutgoingEdges fromEdges = this.adjacencyList.computeIfAbsent(edge.from(), v -> new OutgoingEdges());
+        OutgoingEdges toEdges = this.adjacencyList.computeIfAbsent(edge.to(), v -> new OutgoingEdges());
+        this.fromPositions[index] = fromEdges.add(2 * index);
+        // a self-loop is its own reverse, so it only appears once
+        this.toPositions[index] = fromEdges == toEdges ? -1 : toEdges.add(2 * index + 1);
+        return true;
+    }
+
+    /**
+     * Removes the given edge, or its reverse, from the graph. Its endpoints stay in the graph.
+     *
+     * @return true if the edge was removed; false if neither it nor its reverse was in the graph
+     */
+    public boolean removeEdge(E edge) {
+        Integer index = this.edgeIndices.remove(edge);
+        if (index == null) {
+            index = this.edgeIndices.remove(edge.reversed());
+            if (index == null) {
+                return false;
+            }
+        }
+        E removed = this.allEdges.get(index);
+        this.adjacencyList.get(removed.from()).removeAt(this.fromPositions[index]);
+        if (this.toPositions[index] >= 0) {
+            this.adjacencyList.get(removed.to()).removeAt(this.toPositions[index]);
+        }
+
+        // move the last edge into the freed slot, and point its ids at the slot
+        int last = this.allEdges.size() - 1;
+        E moved = this.allEdges.remove(last);
+        if (index != last) {
+            this.allEdges.set(index, moved);
+            this.edgeIndices.put(moved, index);
+            this.fromPositions[index] = this.fromPositions[last];
+            this.toPositions[index] = this.toPositions[last];
+            this.adjacencyList.get(moved.from()).ids[this.fromPositions[index]] = 2 * index;
+            if (this.toPositions[index] >= 0) {
+                this.adjacencyList.get(moved.to()).ids[this.toPositions[index]] = 2 * index + 1;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if the given edge or its reverse is in the graph. */
+    public boolean containsEdge(E edge) {
+        return this.edgeIndices.containsKey(edge) || this.edgeIndices.containsKey(edge.reversed());
+    }
+
+    @Override
+    public Set<E> outgoingEdgesFrom(V vertex) {
+        Set<E> edges = this.adjacencyList.get(vertex);
+        return edges == null ? Set.of() : edges;
+    }
+
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        OutgoingEdges edges = this.adjacencyList.get(vertex);
+        if (edges != null) {
+            for (int i = 0; i < edges.size; i++) {
+                action.accept(edge(edges.ids[i]));
+            }
+        }
+    }
+
+    @Override
+    public Set<V> allVertices() {
+        return Collections.unmodifiableSet(this.adjacencyList.keySet());
+    }
+
+    @Override
+    public List<E> allEdges() {
+        return Collections.unmodifiableList(this.allEdges);
+    }
+
+    /** Returns the edge with the given id, creating it if the id is for a reversed edge. */
+    private E edge(int id) {
+        E e = this.allEdges.get(id >>> 1);
+        return (id & 1) == 0 ? e : e.reversed();
+    }
+
+    /**
+     * An unmodifiable set view of a vertex's outgoing edges. Each id is 2 * (index of the edge
+     * in allEdges), plus 1 if the edge is reversed.
+     */
+    private class OutgoingEdges extends AbstractSet<E> {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        /** Appends the given id, and returns its position. */
+        int add(int id) {
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, 2 * this.size);
+            }
+            this.ids[this.size] = id;
+            return this.size++;
+        }
+
+        /** Removes the id at the given position, moving the last id into its place. */
+        void removeAt(int position) {
+            this.size--;
+            if (position == this.size) {
+                return;
+            }
+            int id = this.ids[this.size];
+            this.ids[position] = id;
+            if ((id & 1) == 0) {
+                fromPositions[id >>> 1] = position;
+            } else {
+                toPositions[id >>> 1] = position;
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return edge(ids[this.next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
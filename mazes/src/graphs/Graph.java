@@ -1,6 +1,7 @@
 package graphs;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * The most basic possible graph interface; represents a directed graph.
@@ -15,4 +16,15 @@ public interface Graph<V, E extends BaseEdge<V, E>> {
      * If given vertex is not in the graph, returns an empty collection.
      */
     Collection<E> outgoingEdgesFrom(V vertex);
+
+    /**
+     * Calls the given action on each outgoing edge from the given vertex, in the same order as
+     * {@link #outgoingEdgesFrom}. Implementations may override this to skip creating the
+     * unmodifiable collection.
+     *
+     * If given vertex is not in the graph, does nothing.
+     */
+    default void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        outgoingEdgesFrom(vertex).forEach(action);
+    }
 }
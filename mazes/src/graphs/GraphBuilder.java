@@ -0,0 +1,248 @@
+package graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Collects edges, possibly from many threads at once, and builds them into a {@link CsrGraph}
+ * using several threads.
+ *
+ * Instead of inserting edges into per-vertex hash sets one at a time, {@link #build} makes a few
+ * parallel passes over all the edges: one to number the vertices, one to group the edges by the
+ * pair of vertices they join, so that duplicates are found by comparing only edges in the same
+ * group rather than by hashing every edge, one to count each vertex's degree, and, after a prefix
+ * sum turns the degrees into offsets, one to scatter each edge into its slots. The result is
+ * identical to {@code new CsrGraph<>(edges)}, where {@code edges} lists the edges in the order
+ * described by {@link #add}.
+ *
+ * @param <V> The vertex type
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public class GraphBuilder<V, E extends BaseEdge<V, E>> {
+    // Above this many edges between one pair of vertices, duplicates are found by hashing.
+    private static final int MAX_SCANNED_EDGES = 16;
+
+    private final int parallelism;
+    // Each thread that calls add gets its own chunk, so producers never contend on a lock.
+    private final List<List<E>> chunks;
+    private final ThreadLocal<List<E>> threadChunks;
+
+    /** Creates a builder that builds using as many threads as there are available processors. */
+    public GraphBuilder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a builder that builds using the given number of threads.
+     *
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public GraphBuilder(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.chunks = Collections.synchronizedList(new ArrayList<>());
+        this.threadChunks = ThreadLocal.withInitial(() -> {
+            List<E> chunk = new ArrayList<>();
+            this.chunks.add(chunk);
+            return chunk;
+        });
+    }
+
+    /**
+     * Adds an edge. This may be called from many threads at once, but not during {@link #build}.
+     *
+     * When duplicate edges are added, the first one is kept, where edges added by one thread are
+     * ordered by when they were added, and all edges from a thread come before all edges from
+     * threads that first called this later.
+     */
+    public GraphBuilder<V, E> add(E edge) {
+        this.threadChunks.get().add(edge);
+        return this;
+    }
+
+    /**
+     * Adds all edges in the given stream, which may be parallel, in its encounter order. This may
+     * be called from many threads at once, but not during {@link #build}.
+     */
+    public GraphBuilder<V, E> addAll(Stream<? extends E> edges) {
+        this.chunks.add(edges.collect(Collectors.toList()));
+        return this;
+    }
+
+    /**
+     * Builds a graph from the edges added so far, ignoring duplicates exactly as
+     * {@link AdjacencyListUndirectedGraph} does.
+     *
+     * @throws NullPointerException if any edge is null or has a null vertex
+     */
+    public CsrGraph<V, E> build() {
+        List<E> edges = new ArrayList<>();
+        synchronized (this.chunks) {
+            this.chunks.forEach(edges::addAll);
+        }
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            // parallel streams started from a pool's task run in that pool
+            return pool.submit(() -> build(edges)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building graph", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private CsrGraph<V, E> build(List<E> edges) {
+        // Number the vertices in order of first appearance, as the CsrGraph constructor does.
+        // Every duplicate edge has a copy earlier on, so counting duplicates changes nothing.
+        Map<V, Integer> firstAppearances = new ConcurrentHashMap<>();
+        IntStream.range(0, edges.size()).parallel().forEach(i -> {
+            E e = edges.get(i);
+            if (e.from() == null || e.to() == null) {
+                throw new NullPointerException(
+                    "Graph edge contains a null vertex, but null vertices are not supported.");
+            }
+            firstAppearances.merge(e.from(), 2 * i, Math::min);
+            firstAppearances.merge(e.to(), 2 * i + 1, Math::min);
+        });
+        VertexIndex<V> vertexIndex = VertexIndex.of(firstAppearances.entrySet().parallelStream()
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList()));
+        int numVertices = vertexIndex.size();
+
+        // an edge is kept only if it is the first of the edges equal to it or to its reverse,
+        // and those all join the same pair of vertices, so only edges grouped by pair are compared
+        int[] fromIds = new int[edges.size()];
+        int[] toIds = new int[edges.size()];
+        AtomicIntegerArray lowDegrees = new AtomicIntegerArray(numVertices);
+        IntStream.range(0, edges.size()).parallel().forEach(i -> {
+            fromIds[i] = vertexIndex.indexOf(edges.get(i).from());
+            toIds[i] = vertexIndex.indexOf(edges.get(i).to());
+            lowDegrees.incrementAndGet(Math.min(fromIds[i], toIds[i]));
+        });
+        int[] lowOffsets = prefixSums(lowDegrees);
+        // each edge's higher vertex id in the high bits and its index in the low bits
+        long[] pairs = new long[edges.size()];
+        AtomicIntegerArray nextPairs = new AtomicIntegerArray(Arrays.copyOf(lowOffsets, numVertices));
+        IntStream.range(0, edges.size()).parallel().forEach(i -> {
+            int low = Math.min(fromIds[i], toIds[i]);
+            int high = Math.max(fromIds[i], toIds[i]);
+            pairs[nextPairs.getAndIncrement(low)] = (long) high << 32 | i;
+        });
+        boolean[] kept = new boolean[edges.size()];
+        IntStream.range(0, numVertices).parallel().forEach(v -> {
+            Arrays.sort(pairs, lowOffsets[v], lowOffsets[v + 1]);
+            int runStart = lowOffsets[v];
+            for (int p = lowOffsets[v]; p < lowOffsets[v + 1]; p++) {
+                if (p + 1 == lowOffsets[v + 1] || pairs[p + 1] >>> 32 != pairs[p] >>> 32) {
+                    keepFirstCopies(edges, pairs, runStart, p + 1, kept);
+                    runStart = p + 1;
+                }
+            }
+        });
+        int[] keptIndices = IntStream.range(0, edges.size()).parallel().filter(i -> kept[i]).toArray();
+        List<E> allEdges = Arrays.stream(keptIndices).mapToObj(edges::get).collect(Collectors.toList());
+        int numEdges = allEdges.size();
+
+        int[] froms = new int[numEdges];
+        int[] tos = new int[numEdges];
+        AtomicIntegerArray degrees = new AtomicIntegerArray(numVertices);
+        IntStream.range(0, numEdges).parallel().forEach(k -> {
+            froms[k] = fromIds[keptIndices[k]];
+            tos[k] = toIds[keptIndices[k]];
+            degrees.incrementAndGet(froms[k]);
+            // a self-loop is its own reverse, so it only gets one slot
+            if (froms[k] != tos[k]) {
+                degrees.incrementAndGet(tos[k]);
+            }
+        });
+        int[] offsets = prefixSums(degrees);
+
+        int numSlots = offsets[numVertices];
+        int[] edgeIds = new int[numSlots];
+        AtomicIntegerArray nextSlots = new AtomicIntegerArray(Arrays.copyOf(offsets, numVertices));
+        IntStream.range(0, numEdges).parallel().forEach(k -> {
+            edgeIds[nextSlots.getAndIncrement(froms[k])] = 2 * k;
+            if (froms[k] != tos[k]) {
+                edgeIds[nextSlots.getAndIncrement(tos[k])] = 2 * k + 1;
+            }
+        });
+
+        // threads claimed slots in arbitrary order, so restore edge order within each vertex
+        int[] targets = new int[numSlots];
+        double[] weights = new double[numSlots];
+        IntStream.range(0, numVertices).parallel().forEach(v -> {
+            Arrays.sort(edgeIds, offsets[v], offsets[v + 1]);
+            for (int slot = offsets[v]; slot < offsets[v + 1]; slot++) {
+                int k = edgeIds[slot] >>> 1;
+                targets[slot] = (edgeIds[slot] & 1) == 0 ? tos[k] : froms[k];
+                weights[slot] = allEdges.get(k).weight();
+            }
+        });
+        return new CsrGraph<>(allEdges, vertexIndex, offsets, targets, weights, edgeIds);
+    }
+
+    /**
+     * Marks the first copy of each edge among the edges joining one pair of vertices, given in
+     * order of index as pairs[start] through pairs[end - 1].
+     */
+    private static <E extends BaseEdge<?, E>> void keepFirstCopies(List<E> edges, long[] pairs,
+                                                                   int start, int end, boolean[] kept) {
+        if (end - start == 1) {
+            kept[(int) pairs[start]] = true;
+            return;
+        }
+        // many edges between one pair are compared by hashing instead of by scanning
+        Set<E> keptSet = end - start > MAX_SCANNED_EDGES ? new HashSet<>() : null;
+        for (int p = start; p < end; p++) {
+            int i = (int) pairs[p];
+            E e = edges.get(i);
+            E reversed = e.reversed();
+            boolean duplicate = false;
+            if (keptSet != null) {
+                duplicate = keptSet.contains(e) || keptSet.contains(reversed);
+            } else {
+                for (int q = start; q < p && !duplicate; q++) {
+                    int j = (int) pairs[q];
+                    duplicate = kept[j] && (edges.get(j).equals(e) || edges.get(j).equals(reversed));
+                }
+            }
+            if (!duplicate) {
+                kept[i] = true;
+                if (keptSet != null) {
+                    keptSet.add(e);
+                }
+            }
+        }
+    }
+
+    /** Returns an array whose element i + 1 is the sum of counts 0 through i. */
+    private static int[] prefixSums(AtomicIntegerArray counts) {
+        int[] sums = new int[counts.length() + 1];
+        for (int i = 0; i < counts.length(); i++) {
+            sums[i + 1] = counts.get(i);
+        }
+        Arrays.parallelPrefix(sums, Integer::sum);
+        return sums;
+    }
+}
@@ -0,0 +1,94 @@
+package graphs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A base class for graphs whose edges are computed on demand instead of stored, such as
+ * procedurally generated or unbounded mazes.
+ *
+ * Subclasses only implement {@link #generateOutgoingEdges}, which passes each edge to a consumer
+ * rather than collecting them, so {@link #forEachOutgoingEdge} creates no collections at all
+ * when caching is off. With a positive cache capacity, the edges of the most recently used
+ * vertices are kept, so that searches revisiting a neighborhood do not regenerate it; once the
+ * cache is full, the least recently used vertex's edges are dropped, keeping memory bounded even
+ * for infinite graphs.
+ *
+ * This class is not thread-safe when caching is on, since reading edges updates the cache.
+ *
+ * @param <V> The vertex type.
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public abstract class ImplicitGraph<V, E extends BaseEdge<V, E>> implements Graph<V, E> {
+    // Null if caching is off.
+    private final Map<V, List<E>> cache;
+
+    /** Creates a graph that regenerates edges every time they are read. */
+    protected ImplicitGraph() {
+        this(0);
+    }
+
+    /**
+     * Creates a graph that caches the edges of up to the given number of vertices.
+     *
+     * @throws IllegalArgumentException if cacheCapacity is negative
+     */
+    protected ImplicitGraph(int cacheCapacity) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("Cache capacity must not be negative, but was " + cacheCapacity);
+        }
+        if (cacheCapacity == 0) {
+            this.cache = null;
+        } else {
+            this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<V, List<E>> eldest) {
+                    return size() > cacheCapacity;
+                }
+            };
+        }
+    }
+
+    /**
+     * Passes each outgoing edge from the given vertex to the given consumer, in the same order
+     * every time it is called for that vertex.
+     */
+    protected abstract void generateOutgoingEdges(V vertex, Consumer<? super E> sink);
+
+    @Override
+    public List<E> outgoingEdgesFrom(V vertex) {
+        if (this.cache == null) {
+            return generate(vertex);
+        }
+        List<E> edges = this.cache.get(vertex);
+        if (edges == null) {
+            edges = generate(vertex);
+            this.cache.put(vertex, edges);
+        }
+        return edges;
+    }
+
+    @Override
+    public void forEachOutgoingEdge(V vertex, Consumer<? super E> action) {
+        if (this.cache == null) {
+            generateOutgoingEdges(vertex, action);
+        } else {
+            outgoingEdgesFrom(vertex).forEach(action);
+        }
+    }
+
+    /** Returns the number of vertices whose edges are currently cached. */
+    public int cachedVertexCount() {
+        return this.cache == null ? 0 : this.cache.size();
+    }
+
+    private List<E> generate(V vertex) {
+        List<E> edges = new ArrayList<>(4);
+        generateOutgoingEdges(vertex, edges::add);
+        return Collections.unmodifiableList(edges);
+    }
+}
@@ -0,0 +1,45 @@
+package graphs;
+
+/**
+ * A graph whose vertices have dense int ids, so that algorithms can visit neighbors as
+ * (id, weight) pairs without creating edge objects or hashing vertices.
+ *
+ * Implementations like {@link CsrGraph} override {@link #forEachOutgoing} to read their neighbors
+ * straight from arrays; the default implementation delegates to {@link #outgoingEdgesFrom}. A
+ * {@link VertexIndex} is a convenient way to implement the id lookups.
+ *
+ * @param <V> The vertex type.
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public interface IndexedGraph<V, E extends BaseEdge<V, E>> extends Graph<V, E> {
+    /** Returns the number of vertices in the graph; their ids are 0 to {@code vertexCount() - 1}. */
+    int vertexCount();
+
+    /** Returns the id of the given vertex, or -1 if it is not in the graph. */
+    int indexOf(V vertex);
+
+    /**
+     * Returns the vertex with the given id.
+     *
+     * @throws IndexOutOfBoundsException if id is not between 0 and {@code vertexCount() - 1}
+     */
+    V vertex(int id);
+
+    /**
+     * Calls the visitor once for each outgoing edge of the vertex with the given id, in the same
+     * order as {@link #outgoingEdgesFrom}.
+     *
+     * @throws IndexOutOfBoundsException if vertexId is not a valid id
+     */
+    default void forEachOutgoing(int vertexId, NeighborVisitor visitor) {
+        for (E edge : outgoingEdgesFrom(vertex(vertexId))) {
+            visitor.visit(indexOf(edge.to()), edge.weight());
+        }
+    }
+
+    /** Receives the neighbors visited by {@link #forEachOutgoing}. */
+    @FunctionalInterface
+    interface NeighborVisitor {
+        void visit(int toId, double weight);
+    }
+}
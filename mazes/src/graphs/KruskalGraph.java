@@ -1,6 +1,9 @@
 package graphs;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * An undirected graph that supports Kruskal's algorithm.
@@ -17,4 +20,15 @@ public interface KruskalGraph<V, E extends BaseEdge<V, E>> extends Graph<V, E> {
     Collection<V> allVertices();
     /** Returns an unmodifiable collection of all edges in the graph. */
     Collection<E> allEdges();
+
+    /**
+     * Returns a new list of all edges sorted by weight, with ties in the order of
+     * {@link #allEdges}. Graphs that store weights more compactly than their edges may sort by
+     * the stored weights instead.
+     */
+    default List<E> edgesByWeight() {
+        List<E> edges = new ArrayList<>(allEdges());
+        edges.sort(Comparator.comparingDouble(E::weight));
+        return edges;
+    }
 }
@@ -0,0 +1,274 @@
+package graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A read-only directed graph backed by a memory-mapped file, so that a large graph can be
+ * written once and then opened without parsing it or creating an object per vertex or edge.
+ *
+ * Each vertex is identified by a long key, such as a room's packed coordinates, and gets the
+ * rank of its key among all keys as its id. The file holds, in order:
+ *
+ * <ol>
+ *     <li>a header: the int {@code MAGIC}, the int {@code VERSION}, the vertex count n, and the
+ *     edge count m, as ints;</li>
+ *     <li>the n vertex keys in ascending order, as longs;</li>
+ *     <li>the m edge weights, as doubles;</li>
+ *     <li>n + 1 offsets, as ints: the edges from vertex i are at indices {@code offsets[i]}
+ *     through {@code offsets[i + 1] - 1} of the weights and targets;</li>
+ *     <li>the m edge targets' ids, as ints.</li>
+ * </ol>
+ *
+ * All numbers are little-endian. Because the whole file is a single mapping, it must be smaller
+ * than 2 GiB. Edges are only created when {@link #outgoingEdgesFrom} is read, and do not keep any
+ * data beyond their endpoints and weight; {@link #forEachOutgoing} creates no objects at all.
+ */
+public class MappedGraph implements IndexedGraph<Long, Edge<Long>> {
+    static final int MAGIC = 0x47525343;
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final LongBuffer keys;
+    private final DoubleBuffer weights;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+
+    private MappedGraph(LongBuffer keys, DoubleBuffer weights, IntBuffer offsets, IntBuffer targets) {
+        this.keys = keys;
+        this.weights = weights;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Writes the given graph to the given file, which is created or overwritten, identifying
+     * each vertex by the given key.
+     *
+     * The graph is written to a temporary file in the same directory, which is then moved onto
+     * the given path in one step, so a failed write leaves any existing file unchanged rather
+     * than truncated.
+     *
+     * Only the vertices in {@code graph.allVertices()} and their outgoing edges are written, in
+     * the order of {@link Graph#outgoingEdgesFrom}. For an undirected graph, that means each
+     * edge is written in both directions.
+     *
+     * @throws IllegalArgumentException if two vertices have the same key, if an edge leads to a
+     *                                  vertex not in {@code graph.allVertices()}, or if the file
+     *                                  would be 2 GiB or larger
+     * @throws IOException if the file cannot be written
+     */
+    public static <V, E extends BaseEdge<V, E>> void write(KruskalGraph<V, E> graph,
+                                                           ToLongFunction<? super V> keyOf,
+                                                           Path path) throws IOException {
+        List<V> vertices = new ArrayList<>(graph.allVertices());
+        vertices.sort(Comparator.comparingLong(keyOf));
+        Map<V, Integer> ids = new HashMap<>();
+        long numEdges = 0;
+        for (int i = 0; i < vertices.size(); i++) {
+            V vertex = vertices.get(i);
+            if (i > 0 && keyOf.applyAsLong(vertices.get(i - 1)) == keyOf.applyAsLong(vertex)) {
+                throw new IllegalArgumentException(vertices.get(i - 1) + " and " + vertex
+                    + " have the same key");
+            }
+            ids.put(vertex, i);
+            numEdges += graph.outgoingEdgesFrom(vertex).size();
+        }
+        int n = vertices.size();
+        long size = HEADER_BYTES + (long) n * Long.BYTES + numEdges * Double.BYTES
+            + (n + 1L) * Integer.BYTES + numEdges * Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Graph needs " + size + " bytes, which is too large to map");
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            writeFile(graph, keyOf, vertices, ids, numEdges, size, temp);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /** Writes the vertices, with the given ids and sizes, in the format of the class comment. */
+    private static <V, E extends BaseEdge<V, E>> void writeFile(KruskalGraph<V, E> graph,
+                                                                ToLongFunction<? super V> keyOf,
+                                                                List<V> vertices, Map<V, Integer> ids,
+                                                                long numEdges, long size,
+                                                                Path path) throws IOException {
+        int n = vertices.size();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt((int) numEdges);
+            for (V vertex : vertices) {
+                buffer.putLong(keyOf.applyAsLong(vertex));
+            }
+            int weightsStart = buffer.position();
+            int offsetsStart = weightsStart + (int) numEdges * Double.BYTES;
+            int targetsStart = offsetsStart + (n + 1) * Integer.BYTES;
+            int edge = 0;
+            for (int i = 0; i < n; i++) {
+                buffer.putInt(offsetsStart + i * Integer.BYTES, edge);
+                for (E e : graph.outgoingEdgesFrom(vertices.get(i))) {
+                    Integer target = ids.get(e.to());
+                    if (target == null) {
+                        throw new IllegalArgumentException(e + " leads to a vertex not in the graph");
+                    }
+                    buffer.putDouble(weightsStart + edge * Double.BYTES, e.weight());
+                    buffer.putInt(targetsStart + edge * Integer.BYTES, target);
+                    edge++;
+                }
+            }
+            buffer.putInt(offsetsStart + n * Integer.BYTES, edge);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Maps the given file, as written by {@link #write}, as a read-only graph. This takes time
+     * proportional to the number of vertices, to check the offsets, but not to the number of
+     * edges; the operating system reads the rest of the file as it is used.
+     *
+     * The keys and targets are trusted rather than checked: if the keys are out of order,
+     * {@link #indexOf} may not find them, and a target that is not a vertex id makes reading
+     * that edge throw {@link IndexOutOfBoundsException}.
+     *
+     * @throws IOException if the file cannot be read, is not a graph file, or has offsets that
+     *                     do not start at 0, decrease, or do not end at the edge count
+     */
+    public static MappedGraph open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a graph file");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int magic = buffer.getInt(0);
+        int version = buffer.getInt(Integer.BYTES);
+        int n = buffer.getInt(2 * Integer.BYTES);
+        int m = buffer.getInt(3 * Integer.BYTES);
+        long expectedSize = HEADER_BYTES + (long) n * Long.BYTES + (long) m * Double.BYTES
+            + (n + 1L) * Integer.BYTES + (long) m * Integer.BYTES;
+        if (magic != MAGIC || version != VERSION || n < 0 || m < 0 || buffer.capacity() != expectedSize) {
+            throw new IOException(path + " is not a graph file of version " + VERSION);
+        }
+
+        int keysStart = HEADER_BYTES;
+        int weightsStart = keysStart + n * Long.BYTES;
+        int offsetsStart = weightsStart + m * Double.BYTES;
+        int targetsStart = offsetsStart + (n + 1) * Integer.BYTES;
+        IntBuffer offsets = slice(buffer, offsetsStart, targetsStart).asIntBuffer();
+        checkOffsets(offsets, m, path);
+        return new MappedGraph(
+            slice(buffer, keysStart, weightsStart).asLongBuffer(),
+            slice(buffer, weightsStart, offsetsStart).asDoubleBuffer(),
+            offsets,
+            slice(buffer, targetsStart, buffer.capacity()).asIntBuffer());
+    }
+
+    /** Checks that the offsets split the m edges into consecutive, possibly empty, ranges. */
+    private static void checkOffsets(IntBuffer offsets, int m, Path path) throws IOException {
+        int last = offsets.capacity() - 1;
+        if (offsets.get(0) != 0 || offsets.get(last) != m) {
+            throw new IOException(path + " has offsets that do not span its " + m + " edges");
+        }
+        for (int i = 0; i < last; i++) {
+            if (offsets.get(i) > offsets.get(i + 1)) {
+                throw new IOException(path + " has decreasing offsets at vertex " + i);
+            }
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+        return buffer.duplicate().position(start).limit(end).slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public int vertexCount() {
+        return this.keys.capacity();
+    }
+
+    /** Returns the id of the vertex with the given key, found by binary search, or -1 if none. */
+    @Override
+    public int indexOf(Long key) {
+        if (key == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = vertexCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = this.keys.get(mid);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Long vertex(int id) {
+        return this.keys.get(id);
+    }
+
+    @Override
+    public void forEachOutgoing(int vertexId, NeighborVisitor visitor) {
+        int end = this.offsets.get(vertexId + 1);
+        for (int edge = this.offsets.get(vertexId); edge < end; edge++) {
+            visitor.visit(this.targets.get(edge), this.weights.get(edge));
+        }
+    }
+
+    @Override
+    public List<Edge<Long>> outgoingEdgesFrom(Long vertex) {
+        int id = indexOf(vertex);
+        if (id < 0) {
+            return List.of();
+        }
+        int start = this.offsets.get(id);
+        int end = this.offsets.get(id + 1);
+        return new AbstractList<>() {
+            @Override
+            public Edge<Long> get(int i) {
+                if (i < 0 || i >= end - start) {
+                    throw new IndexOutOfBoundsException(i);
+                }
+                return new Edge<>(vertex, vertex(targets.get(start + i)), weights.get(start + i));
+            }
+
+            @Override
+            public int size() {
+                return end - start;
+            }
+        };
+    }
+}
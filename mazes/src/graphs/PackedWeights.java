@@ -0,0 +1,77 @@
+package graphs;
+
+/**
+ * Edge weights stored in fewer bits than a double, indexed by slot.
+ */
+abstract class PackedWeights {
+    /** Returns the stored weight in the given slot, widened to a double. */
+    abstract double get(int slot);
+
+    /** Returns a key whose signed int order is the order of the stored weights. */
+    abstract int sortKey(int slot);
+
+    /**
+     * Stores the given weight in the given slot, rounded as this packing requires.
+     *
+     * @throws IllegalArgumentException if the weight cannot be stored
+     */
+    abstract void set(int slot, double weight);
+
+    /** Returns weights for the given number of slots, rounded to the nearest floats. */
+    static PackedWeights floats(int numSlots) {
+        float[] packed = new float[numSlots];
+        return new PackedWeights() {
+            @Override
+            double get(int slot) {
+                return packed[slot];
+            }
+
+            @Override
+            int sortKey(int slot) {
+                // flip the magnitude bits of negative floats, so that their bits sort as ints
+                int bits = Float.floatToIntBits(packed[slot]);
+                return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+            }
+
+            @Override
+            void set(int slot, double weight) {
+                packed[slot] = (float) weight;
+            }
+        };
+    }
+
+    /**
+     * Returns weights for the given number of slots, rounded to the nearest multiples of scale
+     * and stored as unsigned 16-bit multipliers. Setting a weight that is negative or rounds to
+     * more than 65535 times scale throws {@link IllegalArgumentException}.
+     *
+     * @throws IllegalArgumentException if scale is not positive
+     */
+    static PackedWeights quantized(int numSlots, double scale) {
+        if (!(scale > 0)) {
+            throw new IllegalArgumentException("Scale must be positive, but was " + scale);
+        }
+        char[] packed = new char[numSlots];
+        return new PackedWeights() {
+            @Override
+            double get(int slot) {
+                return packed[slot] * scale;
+            }
+
+            @Override
+            int sortKey(int slot) {
+                return packed[slot];
+            }
+
+            @Override
+            void set(int slot, double weight) {
+                long units = Math.round(weight / scale);
+                if (!(weight >= 0) || units > Character.MAX_VALUE) {
+                    throw new IllegalArgumentException("Weight " + weight
+                        + " cannot be stored as a 16-bit multiple of " + scale);
+                }
+                packed[slot] = (char) units;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package graphs;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns each vertex a dense int id: the first vertex interned gets 0, the next gets 1, and so on.
+ *
+ * Algorithms can intern each vertex once, then keep per-vertex state in arrays indexed by id
+ * instead of in hash maps keyed by vertex, so that vertices are hashed once per lookup rather
+ * than once per field. Ids are never reassigned, so an index built for one graph can be shared
+ * by every algorithm run on it. The index grows as vertices are interned, so it also works for
+ * graphs whose vertices are discovered during a search.
+ *
+ * @param <V> The vertex type.
+ */
+public class VertexIndex<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<V, Integer> ids;
+    private V[] vertices;
+
+    @SuppressWarnings("unchecked")
+    public VertexIndex() {
+        this.ids = new HashMap<>();
+        this.vertices = (V[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Returns an index containing the given vertices, with ids in iteration order.
+     *
+     * @throws IllegalArgumentException if any vertex is null
+     */
+    public static <V> VertexIndex<V> of(Collection<? extends V> vertices) {
+        VertexIndex<V> index = new VertexIndex<>();
+        for (V vertex : vertices) {
+            index.intern(vertex);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the id of the given vertex, first assigning it the next unused id if it does not
+     * have one.
+     *
+     * @throws IllegalArgumentException if vertex is null
+     */
+    public int intern(V vertex) {
+        if (vertex == null) {
+            throw new IllegalArgumentException("Vertex is null, but null vertices are not supported");
+        }
+        int size = this.ids.size();
+        Integer id = this.ids.putIfAbsent(vertex, size);
+        if (id != null) {
+            return id;
+        }
+        if (size == this.vertices.length) {
+            this.vertices = Arrays.copyOf(this.vertices, size * 2);
+        }
+        this.vertices[size] = vertex;
+        return size;
+    }
+
+    /** Returns the id of the given vertex, or -1 if it has not been interned. */
+    public int indexOf(V vertex) {
+        Integer id = this.ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the vertex with the given id.
+     *
+     * @throws IndexOutOfBoundsException if id is not between 0 and {@code size() - 1}
+     */
+    public V vertex(int id) {
+        if (id < 0 || id >= size()) {
+            throw new IndexOutOfBoundsException(id);
+        }
+        return this.vertices[id];
+    }
+
+    /** Returns the number of vertices interned so far; they have the ids 0 to {@code size() - 1}. */
+    public int size() {
+        return this.ids.size();
+    }
+
+    /** Returns an unmodifiable view of the interned vertices, in id order. */
+    public List<V> vertices() {
+        return new AbstractList<>() {
+            @Override
+            public V get(int id) {
+                return vertex(id);
+            }
+
+            @Override
+            public int size() {
+                return VertexIndex.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return ids.containsKey(o);
+            }
+        };
+    }
+}
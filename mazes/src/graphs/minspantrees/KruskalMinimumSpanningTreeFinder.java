@@ -1,12 +1,13 @@
 package graphs.minspantrees;
 
 import disjointsets.DisjointSets;
+import disjointsets.IntDisjointSets;
 import disjointsets.UnionBySizeCompressingDisjointSets;
 import graphs.BaseEdge;
+import graphs.IndexedGraph;
 import graphs.KruskalGraph;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -16,6 +17,28 @@ import java.util.List;
 public class KruskalMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
     implements MinimumSpanningTreeFinder<G, V, E> {
 
+    // Whether graphs that are also an IndexedGraph use its ids instead of createDisjointSets.
+    private final boolean indexedSets;
+
+    public KruskalMinimumSpanningTreeFinder() {
+        this(false);
+    }
+
+    private KruskalMinimumSpanningTreeFinder(boolean indexedSets) {
+        this.indexedSets = indexedSets;
+    }
+
+    /**
+     * Returns a finder that, for graphs that are also an {@link IndexedGraph} (such as
+     * {@code CsrGraph}), tracks components with an {@link IntDisjointSets} over the graph's own
+     * vertex ids, so vertices are never hashed into a second map. Those searches do not call
+     * {@link #createDisjointSets()}.
+     */
+    public static <G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    KruskalMinimumSpanningTreeFinder<G, V, E> withIndexedSets() {
+        return new KruskalMinimumSpanningTreeFinder<>(true);
+    }
+
     protected DisjointSets<V> createDisjointSets() {
         //return new QuickFindDisjointSets<>();
         /*
@@ -32,21 +55,27 @@ public class KruskalMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public MinimumSpanningTree<V, E> findMinimumSpanningTree(G graph) {
-        List<E> edges = new ArrayList<>(graph.allEdges());
-        edges.sort(Comparator.comparingDouble(E::weight));
+        if (this.indexedSets && graph instanceof IndexedGraph) {
+            return findIndexedMinimumSpanningTree(graph, (IndexedGraph<V, E>) graph);
+        }
+        List<E> edges = graph.edgesByWeight();
         DisjointSets<V> disjointSets = createDisjointSets();
 
         for (V vertex: graph.allVertices()) {
             disjointSets.makeSet(vertex);
         }
 
+        // once the tree has |V| - 1 edges, everything is in one set and no other edge can join it
+        int treeSize = graph.allVertices().size() - 1;
         List<E> treeEdge = new ArrayList<>();
         for (E edge: edges) {
-            V start = edge.from();
-            V end = edge.to();
-            if (disjointSets.findSet(start) != disjointSets.findSet(end)) {
-                disjointSets.union(start, end);
+            if (treeEdge.size() >= treeSize) {
+                break;
+            }
+            // union already reports whether the endpoints were in different sets
+            if (disjointSets.union(edge.from(), edge.to())) {
                 treeEdge.add(edge);
             }
         }
@@ -61,5 +90,26 @@ public class KruskalMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E
             return new MinimumSpanningTree.Success<>(treeEdge);
         }
     }
-}
 
+    /** Runs the same algorithm with sets of the graph's vertex ids. */
+    private MinimumSpanningTree<V, E> findIndexedMinimumSpanningTree(G graph, IndexedGraph<V, E> ids) {
+        int numVertices = ids.vertexCount();
+        IntDisjointSets disjointSets = new IntDisjointSets(numVertices);
+        disjointSets.makeSets(numVertices);
+
+        List<E> treeEdge = new ArrayList<>();
+        for (E edge : graph.edgesByWeight()) {
+            if (treeEdge.size() >= numVertices - 1) {
+                break;
+            }
+            if (disjointSets.union(ids.indexOf(edge.from()), ids.indexOf(edge.to()))) {
+                treeEdge.add(edge);
+            }
+        }
+
+        if (numVertices > 0 && treeEdge.size() != numVertices - 1) {
+            return new MinimumSpanningTree.Failure<>();
+        }
+        return new MinimumSpanningTree.Success<>(treeEdge);
+    }
+}
@@ -1,15 +1,20 @@
 package graphs.shortestpaths;
 import graphs.BaseEdge;
 import graphs.Graph;
-import priorityqueues.DoubleMapMinPQ;
+import graphs.IndexedGraph;
+import graphs.VertexIndex;
+import priorityqueues.ArrayHeapMinPQ;
 import priorityqueues.ExtrinsicMinPQ;
+import priorityqueues.IntDoubleIndexedMinPQ;
+import priorityqueues.MinPQFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.function.Consumer;
 
 /**
  * Computes shortest paths using Dijkstra's algorithm.
@@ -18,13 +23,55 @@ import java.util.HashSet;
 public class DijkstraShortestPathFinder<G extends Graph<V, E>, V, E extends BaseEdge<V, E>>
     extends SPTShortestPathFinder<G, V, E> {
 
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final MinPQFactory minPQFactory;
+    // Whether searches over an IndexedGraph run over vertex ids instead of using createMinPQ.
+    private final boolean indexedSearch;
+
+    /** Creates a finder that uses an {@link ArrayHeapMinPQ}. */
+    public DijkstraShortestPathFinder() {
+        this(ArrayHeapMinPQ::new);
+    }
+
+    /**
+     * Creates a finder whose searches use PQs from the given factory, such as
+     * {@code DaryHeapMinPQ.factory(4)}, for every graph.
+     *
+     * To use lazy deletion instead of decrease-key, pass {@code LazyDeletionMinPQ::new}: the
+     * search skips vertices that are already known, so stale queue entries are harmless.
+     *
+     * For graphs with non-negative weights, the monotone PQs {@code RadixHeapMinPQ::new} and,
+     * if every weight is an integer no greater than some bound, {@code BucketMinPQ.factory(bound)}
+     * avoid comparison-based sifting.
+     */
+    public DijkstraShortestPathFinder(MinPQFactory minPQFactory) {
+        this(minPQFactory, false);
+    }
+
+    private DijkstraShortestPathFinder(MinPQFactory minPQFactory, boolean indexedSearch) {
+        this.minPQFactory = minPQFactory;
+        this.indexedSearch = indexedSearch;
+    }
+
+    /**
+     * Returns a finder whose searches over an {@link IndexedGraph} run over vertex ids with an
+     * {@link IntDoubleIndexedMinPQ}, creating edge objects only for the returned tree. Those
+     * searches do not call {@link #createMinPQ()}; searches over other graphs use an
+     * {@link ArrayHeapMinPQ}.
+     */
+    public static <G extends Graph<V, E>, V, E extends BaseEdge<V, E>>
+    DijkstraShortestPathFinder<G, V, E> withIndexedSearch() {
+        return new DijkstraShortestPathFinder<>(ArrayHeapMinPQ::new, true);
+    }
+
     protected <T> ExtrinsicMinPQ<T> createMinPQ() {
-        return new DoubleMapMinPQ<>();
+        // return new DoubleMapMinPQ<>();
         /*
-        If you have confidence in your heap implementation, you can disable the line above
-        and enable the one below.
+        Disable the line above and enable the one below once you have confidence in your heap
+        implementation.
          */
-        // return new ArrayHeapMinPQ<>();
+        return this.minPQFactory.create();
 
         /*
         Otherwise, do not change this method.
@@ -35,43 +82,157 @@ public class DijkstraShortestPathFinder<G extends Graph<V, E>, V, E extends Base
 
     // current method based on lecture 15 slide 15:
     @Override
+    @SuppressWarnings("unchecked")
     protected Map<V, E> constructShortestPathsTree(G graph, V start, V end) {
-        Set<V> known = new HashSet<>();
-        ExtrinsicMinPQ<V> pq = createMinPQ();
-        Map<V, Double> distTo = new HashMap<>();
-        Map<V, E> edgeTo = new HashMap<>();
-        distTo.put(start, 0.0);
-        pq.add(start, 0.0);
+        if (this.indexedSearch && graph instanceof IndexedGraph) {
+            return constructIndexedShortestPathsTree((IndexedGraph<V, E>) graph, start, end);
+        }
+        // vertices get ids as they are discovered, so the per-vertex state can live in arrays
+        // even for graphs too large to index up front
+        Search<V, E> search = new Search<>(createMinPQ());
+        search.distTo[search.ids.intern(start)] = 0.0;
+        search.pq.add(start, 0.0);
 
-        while (!pq.isEmpty()) {
-            V vertex = pq.removeMin();
-            known.add(vertex);
+        while (!search.pq.isEmpty()) {
+            V vertex = search.pq.removeMin();
+            search.from = search.ids.indexOf(vertex);
+            search.known[search.from] = true;
             if (vertex.equals(end)) {
-                return edgeTo;
+                break;
             }
-            for (E edge : graph.outgoingEdgesFrom(vertex)) {
-                V newVertex = edge.to();
-                if (!known.contains(newVertex)) {
-                    double oldDist = Double.POSITIVE_INFINITY;
-                    if (distTo.containsKey(newVertex)) {
-                        oldDist = distTo.get(newVertex);
-                    }
-                    double newDist = distTo.get(vertex) + edge.weight();
-                    if (newDist < oldDist) {
-                        distTo.put(newVertex, newDist);
-                        edgeTo.put(newVertex, edge);
-                        if (pq.contains(newVertex)) {
-                            pq.changePriority(newVertex, newDist);
-                        } else {
-                            pq.add(newVertex, newDist);
-                        }
-                    }
+            graph.forEachOutgoingEdge(vertex, search);
+        }
+        return search.edgeTo;
+    }
+
+    /** The state of a search over a graph of unknown size, which also relaxes each visited edge. */
+    private static class Search<V, E extends BaseEdge<V, E>> implements Consumer<E> {
+        final VertexIndex<V> ids = new VertexIndex<>();
+        double[] distTo = new double[INITIAL_CAPACITY];
+        boolean[] known = new boolean[INITIAL_CAPACITY];
+        final ExtrinsicMinPQ<V> pq;
+        final Map<V, E> edgeTo = new HashMap<>();
+        // The id of the vertex whose edges are being visited.
+        int from;
+
+        Search(ExtrinsicMinPQ<V> pq) {
+            this.pq = pq;
+            Arrays.fill(this.distTo, Double.POSITIVE_INFINITY);
+        }
+
+        @Override
+        public void accept(E edge) {
+            V newVertex = edge.to();
+            int newId = this.ids.intern(newVertex);
+            if (newId == this.distTo.length) {
+                this.distTo = Arrays.copyOf(this.distTo, 2 * newId);
+                this.known = Arrays.copyOf(this.known, 2 * newId);
+                Arrays.fill(this.distTo, newId, this.distTo.length, Double.POSITIVE_INFINITY);
+            }
+            if (!this.known[newId]) {
+                double newDist = this.distTo[this.from] + edge.weight();
+                if (newDist < this.distTo[newId]) {
+                    this.distTo[newId] = newDist;
+                    this.edgeTo.put(newVertex, edge);
+                    this.pq.addOrDecrease(newVertex, newDist);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the same search as {@link #constructShortestPathsTree} over vertex ids. Each reached
+     * vertex records its parent's id and the position of the connecting edge among the parent's
+     * outgoing edges, so edge objects are only looked up for the vertices in the returned tree.
+     */
+    private Map<V, E> constructIndexedShortestPathsTree(IndexedGraph<V, E> graph, V start, V end) {
+        Map<V, E> edgeTo = new HashMap<>();
+        int startId = graph.indexOf(start);
+        if (startId < 0 || start.equals(end)) {
+            return edgeTo;
+        }
+        int endId = graph.indexOf(end);
+
+        Relaxation relaxation = new Relaxation(graph.vertexCount());
+        relaxation.distTo[startId] = 0.0;
+        relaxation.pq.add(startId, 0.0);
+        while (!relaxation.pq.isEmpty()) {
+            int id = relaxation.pq.removeMinInt();
+            relaxation.known[id] = true;
+            if (id == endId) {
+                break;
+            }
+            relaxation.from = id;
+            relaxation.ordinal = 0;
+            graph.forEachOutgoing(id, relaxation);
+        }
+
+        if (endId >= 0 && relaxation.known[endId]) {
+            for (int id = endId; id != startId; id = relaxation.parents[id]) {
+                edgeTo.put(graph.vertex(id), relaxation.parentEdge(graph, id));
+            }
+        } else {
+            for (int id = 0; id < graph.vertexCount(); id++) {
+                if (relaxation.parents[id] >= 0) {
+                    edgeTo.put(graph.vertex(id), relaxation.parentEdge(graph, id));
                 }
             }
         }
         return edgeTo;
     }
 
+    /** The per-vertex state of an indexed search, which also relaxes each visited neighbor. */
+    private static class Relaxation implements IndexedGraph.NeighborVisitor {
+        final double[] distTo;
+        final boolean[] known;
+        // For each reached vertex, its parent's id, or -1 if it has none.
+        final int[] parents;
+        // For each reached vertex, the position of its edge among its parent's outgoing edges.
+        final int[] parentOrdinals;
+        final IntDoubleIndexedMinPQ pq;
+        // The vertex whose neighbors are being visited, and how many have been visited so far.
+        int from;
+        int ordinal;
+
+        Relaxation(int numVertices) {
+            this.distTo = new double[numVertices];
+            this.known = new boolean[numVertices];
+            this.parents = new int[numVertices];
+            this.parentOrdinals = new int[numVertices];
+            this.pq = new IntDoubleIndexedMinPQ(numVertices);
+            Arrays.fill(this.distTo, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.parents, -1);
+        }
+
+        @Override
+        public void visit(int toId, double weight) {
+            int ordinal = this.ordinal++;
+            if (this.known[toId]) {
+                return;
+            }
+            double newDist = this.distTo[this.from] + weight;
+            if (newDist < this.distTo[toId]) {
+                this.distTo[toId] = newDist;
+                this.parents[toId] = this.from;
+                this.parentOrdinals[toId] = ordinal;
+                if (this.pq.contains(toId)) {
+                    this.pq.decreaseKey(toId, newDist);
+                } else {
+                    this.pq.add(toId, newDist);
+                }
+            }
+        }
+
+        <V, E extends BaseEdge<V, E>> E parentEdge(IndexedGraph<V, E> graph, int id) {
+            Iterator<E> edges = graph.outgoingEdgesFrom(graph.vertex(this.parents[id]))
+                .iterator();
+            for (int i = 0; i < this.parentOrdinals[id]; i++) {
+                edges.next();
+            }
+            return edges.next();
+        }
+    }
+
     @Override
     protected ShortestPath<V, E> extractShortestPath(Map<V, E> spt, V start, V end) {
         if (start.equals(end)) {
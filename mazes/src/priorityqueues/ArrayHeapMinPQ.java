@@ -0,0 +1,17 @@
+package priorityqueues;
+
+/**
+ * An {@link ExtrinsicMinPQ} implemented as an array-backed binary min-heap.
+ *
+ * Priorities are stored in a primitive array parallel to the heap of items, and a map from each
+ * item to its index in the heap makes {@link #contains} and {@link #changePriority} fast:
+ * {@link #add}, {@link #removeMin}, and {@link #changePriority} take O(log n) time, and
+ * {@link #contains} and {@link #peekMin} take O(1) time.
+ *
+ * This is a {@link DaryHeapMinPQ} with two children per node, so both share one implementation.
+ */
+public class ArrayHeapMinPQ<T> extends DaryHeapMinPQ<T> {
+    public ArrayHeapMinPQ() {
+        super(2);
+    }
+}
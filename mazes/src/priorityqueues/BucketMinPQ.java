@@ -0,0 +1,185 @@
+package priorityqueues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A monotone {@link ExtrinsicMinPQ} for small integer priorities, implemented as a circular
+ * array of buckets (Dial's algorithm).
+ *
+ * Every priority must be a non-negative integer between the priority of the last item returned
+ * by {@link #peekMin} or {@link #removeMin} and that priority plus the range given at
+ * construction time. This holds in Dijkstra's algorithm when every edge weight is an integer no
+ * greater than the range. All operations take O(1) time, except that finding the minimum may
+ * scan up to range + 1 empty buckets.
+ *
+ * @see RadixHeapMinPQ for a monotone PQ without these restrictions on priorities.
+ */
+public class BucketMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private final List<List<Entry<T>>> buckets;
+    private final Map<T, Entry<T>> entries;
+    // The priority of the last minimum found; every priority in the PQ is at least this.
+    private long current;
+
+    /**
+     * @param range The largest allowed difference between any priority and the current minimum.
+     * @throws IllegalArgumentException if range is negative or too large to allocate buckets for
+     */
+    public BucketMinPQ(int range) {
+        if (range < 0 || range == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid range: " + range);
+        }
+        this.buckets = new ArrayList<>(range + 1);
+        for (int i = 0; i <= range; i++) {
+            this.buckets.add(new ArrayList<>());
+        }
+        this.entries = new HashMap<>();
+        this.current = 0;
+    }
+
+    /**
+     * Returns a factory creating bucket PQs with the given range.
+     *
+     * @throws IllegalArgumentException if range is negative or too large to allocate buckets for
+     */
+    public static MinPQFactory factory(int range) {
+        if (range < 0 || range == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid range: " + range);
+        }
+        return new MinPQFactory() {
+            @Override
+            public <U> ExtrinsicMinPQ<U> create() {
+                return new BucketMinPQ<>(range);
+            }
+        };
+    }
+
+    /**
+     * @throws IllegalArgumentException if priority is not an integer in the allowed range
+     * @see ExtrinsicMinPQ#add
+     */
+    @Override
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        if (this.entries.containsKey(item)) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        Entry<T> entry = new Entry<>(item, toBucketPriority(priority));
+        this.entries.put(item, entry);
+        insert(entry);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.entries.containsKey(item);
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.entries.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        List<Entry<T>> minBucket = minBucket();
+        return minBucket.get(minBucket.size() - 1).item;
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.entries.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        List<Entry<T>> minBucket = minBucket();
+        Entry<T> min = minBucket.remove(minBucket.size() - 1);
+        this.entries.remove(min.item);
+        return min.item;
+    }
+
+    /**
+     * @throws IllegalArgumentException if priority is not an integer in the allowed range
+     * @see ExtrinsicMinPQ#changePriority
+     */
+    @Override
+    public void changePriority(T item, double priority) {
+        Entry<T> entry = this.entries.get(item);
+        if (entry == null) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        long newPriority = toBucketPriority(priority);
+        remove(entry);
+        entry.priority = newPriority;
+        insert(entry);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Removes all items and resets the current minimum to 0, in time proportional to the number
+     * of items in the PQ rather than to the range, so that a caller running many searches can
+     * reuse one PQ's buckets instead of allocating new ones.
+     */
+    public void clear() {
+        for (Entry<T> entry : this.entries.values()) {
+            bucketFor(entry.priority).clear();
+        }
+        this.entries.clear();
+        this.current = 0;
+    }
+
+    /** Advances the current minimum to the first non-empty bucket, and returns that bucket. */
+    private List<Entry<T>> minBucket() {
+        List<Entry<T>> bucket = bucketFor(this.current);
+        while (bucket.isEmpty()) {
+            this.current++;
+            bucket = bucketFor(this.current);
+        }
+        return bucket;
+    }
+
+    private long toBucketPriority(double priority) {
+        long bucketPriority = (long) priority;
+        if (bucketPriority != priority || bucketPriority < this.current
+            || bucketPriority - this.current >= this.buckets.size()) {
+            throw new IllegalArgumentException("Priority " + priority + " is not an integer between "
+                + this.current + " and " + (this.current + this.buckets.size() - 1));
+        }
+        return bucketPriority;
+    }
+
+    private List<Entry<T>> bucketFor(long priority) {
+        return this.buckets.get((int) (priority % this.buckets.size()));
+    }
+
+    private void insert(Entry<T> entry) {
+        List<Entry<T>> bucket = bucketFor(entry.priority);
+        entry.index = bucket.size();
+        bucket.add(entry);
+    }
+
+    private void remove(Entry<T> entry) {
+        List<Entry<T>> bucket = bucketFor(entry.priority);
+        Entry<T> last = bucket.remove(bucket.size() - 1);
+        if (last != entry) {
+            bucket.set(entry.index, last);
+            last.index = entry.index;
+        }
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private long priority;
+        private int index;
+
+        Entry(T item, long priority) {
+            this.item = item;
+            this.priority = priority;
+        }
+    }
+}
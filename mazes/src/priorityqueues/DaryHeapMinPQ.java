@@ -0,0 +1,225 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link ExtrinsicMinPQ} implemented as an array-backed d-ary min-heap, where the number of
+ * children per node is chosen at construction time.
+ *
+ * A higher arity makes the heap shallower, so {@link #add} and decreasing priorities with
+ * {@link #changePriority} (the common operations in Dijkstra's algorithm) touch fewer levels,
+ * at the cost of comparing more children per level in {@link #removeMin}. Arities 2, 4, and 8
+ * are the usual choices.
+ *
+ * Priorities are stored in a primitive array parallel to the heap of items, and a map from each
+ * item to its index in the heap makes {@link #contains} and {@link #changePriority} fast.
+ *
+ * @see ArrayHeapMinPQ for the binary version.
+ */
+public class DaryHeapMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private T[] items;
+    private double[] priorities;
+    private int size;
+    private final Map<T, Integer> itemToIndex;
+
+    /**
+     * @param arity The number of children per node.
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    public DaryHeapMinPQ(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, but was " + arity);
+        }
+        this.arity = arity;
+        this.items = (T[]) new Object[DEFAULT_CAPACITY];
+        this.priorities = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+        this.itemToIndex = new HashMap<>();
+    }
+
+    /**
+     * Returns a factory creating d-ary heaps with the given arity.
+     *
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public static MinPQFactory factory(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, but was " + arity);
+        }
+        return new MinPQFactory() {
+            @Override
+            public <U> ExtrinsicMinPQ<U> create() {
+                return new DaryHeapMinPQ<>(arity);
+            }
+        };
+    }
+
+    @Override
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        if (this.itemToIndex.containsKey(item)) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        if (this.size == this.items.length) {
+            this.items = Arrays.copyOf(this.items, this.size * 2);
+            this.priorities = Arrays.copyOf(this.priorities, this.size * 2);
+        }
+        this.size++;
+        siftUp(this.size - 1, item, priority);
+    }
+
+    /**
+     * Adds all the given items in O(n) time by appending them and restoring heap order bottom-up,
+     * unless there are few enough new items that adding them one at a time is cheaper.
+     *
+     * If this throws, the PQ is left unchanged.
+     *
+     * @see ExtrinsicMinPQ#addAll
+     */
+    @Override
+    public void addAll(List<? extends T> newItems, double[] newPriorities) {
+        int numNew = newPriorities.length;
+        if (newItems.size() != numNew) {
+            throw new IllegalArgumentException("Got " + newItems.size() + " items, but "
+                + numNew + " priorities");
+        }
+        for (int i = 0; i < numNew; i++) {
+            T item = newItems.get(i);
+            if (item == null || this.itemToIndex.putIfAbsent(item, this.size + i) != null) {
+                for (int j = 0; j < i; j++) {
+                    this.itemToIndex.remove(newItems.get(j));
+                }
+                throw new IllegalArgumentException(item == null
+                    ? "Item is null, but null items are not supported" : "Already contains " + item);
+            }
+        }
+        if (this.size + numNew > this.items.length) {
+            int capacity = Math.max(this.size + numNew, this.items.length * 2);
+            this.items = Arrays.copyOf(this.items, capacity);
+            this.priorities = Arrays.copyOf(this.priorities, capacity);
+        }
+
+        int oldSize = this.size;
+        this.size += numNew;
+        // sifting each new item up costs about numNew * log(size); rebuilding costs about size
+        if ((long) numNew * (32 - Integer.numberOfLeadingZeros(this.size)) < this.size) {
+            for (int i = 0; i < numNew; i++) {
+                siftUp(oldSize + i, newItems.get(i), newPriorities[i]);
+            }
+        } else {
+            for (int i = 0; i < numNew; i++) {
+                this.items[oldSize + i] = newItems.get(i);
+                this.priorities[oldSize + i] = newPriorities[i];
+            }
+            for (int i = (this.size - 2) / this.arity; i >= 0; i--) {
+                siftDown(i, this.items[i], this.priorities[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.itemToIndex.containsKey(item);
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        return this.items[0];
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        T min = this.items[0];
+        this.itemToIndex.remove(min);
+        this.size--;
+        T last = this.items[this.size];
+        double lastPriority = this.priorities[this.size];
+        this.items[this.size] = null;
+        if (this.size > 0) {
+            siftDown(0, last, lastPriority);
+        }
+        return min;
+    }
+
+    @Override
+    public void changePriority(T item, double priority) {
+        Integer index = this.itemToIndex.get(item);
+        if (index == null) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        if (priority < this.priorities[index]) {
+            siftUp(index, item, priority);
+        } else {
+            siftDown(index, item, priority);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Places the given item into the hole at the given index, first moving the hole up past any
+     * ancestors with greater priorities.
+     */
+    private void siftUp(int index, T item, double priority) {
+        while (index > 0) {
+            int parent = (index - 1) / this.arity;
+            if (this.priorities[parent] <= priority) {
+                break;
+            }
+            place(index, this.items[parent], this.priorities[parent]);
+            index = parent;
+        }
+        place(index, item, priority);
+    }
+
+    /**
+     * Places the given item into the hole at the given index, first moving the hole down past
+     * any descendants with lesser priorities.
+     */
+    private void siftDown(int index, T item, double priority) {
+        while (true) {
+            int firstChild = this.arity * index + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+            int minChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.priorities[child] < this.priorities[minChild]) {
+                    minChild = child;
+                }
+            }
+            if (this.priorities[minChild] >= priority) {
+                break;
+            }
+            place(index, this.items[minChild], this.priorities[minChild]);
+            index = minChild;
+        }
+        place(index, item, priority);
+    }
+
+    private void place(int index, T item, double priority) {
+        this.items[index] = item;
+        this.priorities[index] = priority;
+        this.itemToIndex.put(item, index);
+    }
+}
@@ -1,5 +1,6 @@
 package priorityqueues;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -18,6 +19,25 @@ public interface ExtrinsicMinPQ<T> {
     /** Returns true if the PQ contains the given item; false otherwise. */
     boolean contains(T item);
 
+    /**
+     * Adds each item in the list with the priority at the same index in the array.
+     *
+     * Implementations may override this to build the PQ faster than by separate calls to
+     * {@link #add}.
+     *
+     * @throws IllegalArgumentException if the list and array have different lengths, or if any
+     *                                  item is null, repeated, or already present in the PQ
+     */
+    default void addAll(List<? extends T> items, double[] priorities) {
+        if (items.size() != priorities.length) {
+            throw new IllegalArgumentException("Got " + items.size() + " items, but "
+                + priorities.length + " priorities");
+        }
+        for (int i = 0; i < priorities.length; i++) {
+            add(items.get(i), priorities[i]);
+        }
+    }
+
     /**
      * Returns the item with the least-valued priority.
      * @throws NoSuchElementException if the PQ is empty
@@ -36,6 +56,23 @@ public interface ExtrinsicMinPQ<T> {
      */
     void changePriority(T item, double priority);
 
+    /**
+     * Adds the item with the given priority if it is not present; otherwise, changes its priority
+     * to the given priority, which should be no greater than its current priority.
+     *
+     * This is the only update a search like Dijkstra's algorithm needs, so implementations may
+     * override it to avoid a separate {@link #contains} check, or to ignore increases.
+     *
+     * @throws IllegalArgumentException if item is null
+     */
+    default void addOrDecrease(T item, double priority) {
+        if (contains(item)) {
+            changePriority(item, priority);
+        } else {
+            add(item, priority);
+        }
+    }
+
     /** Returns the number of items in the PQ. */
     int size();
 
@@ -0,0 +1,192 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of the primitive int items 0, 1, ..., capacity - 1, with double priorities.
+ *
+ * This is the primitive counterpart of {@link ExtrinsicMinPQ} for searches over dense integer
+ * ids: it stores the heap, each item's position in the heap, and each item's priority in plain
+ * arrays sized at construction, so no operation boxes, hashes, or allocates. {@link #clear} only
+ * touches the items still in the PQ, so one instance can be reused across many searches.
+ */
+public class IntDoubleIndexedMinPQ {
+    private final int[] heap;
+    // For each item, its index in the heap, or -1 if it is not in the PQ.
+    private final int[] positions;
+    private final double[] priorities;
+    private int size;
+
+    /**
+     * Creates an empty PQ for the items 0, 1, ..., capacity - 1.
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntDoubleIndexedMinPQ(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative, but was " + capacity);
+        }
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.priorities = new double[capacity];
+        this.size = 0;
+        Arrays.fill(this.positions, -1);
+    }
+
+    /** Returns the number of items this PQ can hold; items must be less than this. */
+    public int capacity() {
+        return this.heap.length;
+    }
+
+    /**
+     * Adds an item with the given priority value.
+     *
+     * @throws IllegalArgumentException if item is out of range or is already present in the PQ
+     */
+    public void add(int item, double priority) {
+        checkItem(item);
+        if (this.positions[item] >= 0) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        this.priorities[item] = priority;
+        this.size++;
+        siftUp(this.size - 1, item);
+    }
+
+    /** Returns true if the PQ contains the given item; false otherwise. */
+    public boolean contains(int item) {
+        return item >= 0 && item < this.positions.length && this.positions[item] >= 0;
+    }
+
+    /**
+     * Returns the priority of the given item.
+     *
+     * @throws NoSuchElementException if the item is not present in the PQ
+     */
+    public double priorityOf(int item) {
+        if (!contains(item)) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        return this.priorities[item];
+    }
+
+    /**
+     * Returns the item with the least-valued priority.
+     *
+     * @throws NoSuchElementException if the PQ is empty
+     */
+    public int peekMinInt() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * Removes and returns the item with the least-valued priority.
+     *
+     * @throws NoSuchElementException if the PQ is empty
+     */
+    public int removeMinInt() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        int min = this.heap[0];
+        this.positions[min] = -1;
+        this.size--;
+        if (this.size > 0) {
+            siftDown(0, this.heap[this.size]);
+        }
+        return min;
+    }
+
+    /**
+     * Lowers the priority of the given item.
+     *
+     * @throws NoSuchElementException if the item is not present in the PQ
+     * @throws IllegalArgumentException if priority is greater than the item's current priority
+     */
+    public void decreaseKey(int item, double priority) {
+        if (!contains(item)) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        if (priority > this.priorities[item]) {
+            throw new IllegalArgumentException(
+                "New priority " + priority + " is greater than current priority " + this.priorities[item]);
+        }
+        this.priorities[item] = priority;
+        siftUp(this.positions[item], item);
+    }
+
+    /** Returns the number of items in the PQ. */
+    public int size() {
+        return this.size;
+    }
+
+    /** Returns true if the PQ is empty; false otherwise. */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /** Removes all items, in time proportional to the number of items currently in the PQ. */
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.positions[this.heap[i]] = -1;
+        }
+        this.size = 0;
+    }
+
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.heap.length) {
+            throw new IllegalArgumentException(
+                item + " is out of range for a PQ with capacity " + this.heap.length);
+        }
+    }
+
+    /**
+     * Places the given item into the hole at the given index, first moving the hole up past any
+     * ancestors with greater priorities.
+     */
+    private void siftUp(int index, int item) {
+        double priority = this.priorities[item];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (this.priorities[this.heap[parent]] <= priority) {
+                break;
+            }
+            place(index, this.heap[parent]);
+            index = parent;
+        }
+        place(index, item);
+    }
+
+    /**
+     * Places the given item into the hole at the given index, first moving the hole down past
+     * any descendants with lesser priorities.
+     */
+    private void siftDown(int index, int item) {
+        double priority = this.priorities[item];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size
+                && this.priorities[this.heap[child + 1]] < this.priorities[this.heap[child]]) {
+                child++;
+            }
+            if (this.priorities[this.heap[child]] >= priority) {
+                break;
+            }
+            place(index, this.heap[child]);
+            index = child;
+        }
+        place(index, item);
+    }
+
+    private void place(int index, int item) {
+        this.heap[index] = item;
+        this.positions[item] = index;
+    }
+}
@@ -0,0 +1,165 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link ExtrinsicMinPQ} implemented as a binary min-heap of entries that are never updated
+ * in place.
+ *
+ * Instead of tracking where each item sits in the heap, {@link #changePriority} and
+ * {@link #addOrDecrease} push a new entry for the item and leave the old one behind. A map holds
+ * each item's current priority, and an entry whose priority no longer matches is stale: it is
+ * discarded when it reaches the top of the heap. This trades extra heap entries for cheaper
+ * updates, which pays off in searches that rarely improve a vertex's distance more than once.
+ *
+ * Stale entries stay in the heap until they reach the top, so the heap may hold one entry per
+ * add or priority change rather than one per item. {@link #addOrDecrease} ignores priorities that
+ * are not less than the item's current one, so it never adds a useless entry.
+ */
+public class LazyDeletionMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // The heap of entries, some of which may be stale.
+    private T[] items;
+    private double[] priorities;
+    private int heapSize;
+    private final Map<T, Double> currentPriorities;
+
+    @SuppressWarnings("unchecked")
+    public LazyDeletionMinPQ() {
+        this.items = (T[]) new Object[DEFAULT_CAPACITY];
+        this.priorities = new double[DEFAULT_CAPACITY];
+        this.heapSize = 0;
+        this.currentPriorities = new HashMap<>();
+    }
+
+    @Override
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        if (this.currentPriorities.putIfAbsent(item, priority) != null) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        push(item, priority);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.currentPriorities.containsKey(item);
+    }
+
+    @Override
+    public T peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        discardStaleMinimums();
+        return this.items[0];
+    }
+
+    @Override
+    public T removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        discardStaleMinimums();
+        T min = this.items[0];
+        this.currentPriorities.remove(min);
+        pop();
+        return min;
+    }
+
+    @Override
+    public void changePriority(T item, double priority) {
+        Double current = this.currentPriorities.get(item);
+        if (current == null) {
+            throw new NoSuchElementException("PQ does not contain " + item);
+        }
+        if (current != priority) {
+            this.currentPriorities.put(item, priority);
+            push(item, priority);
+        }
+    }
+
+    @Override
+    public void addOrDecrease(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        Double current = this.currentPriorities.get(item);
+        if (current == null || priority < current) {
+            this.currentPriorities.put(item, priority);
+            push(item, priority);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.currentPriorities.size();
+    }
+
+    /** Pops entries until the one at the top of the heap holds its item's current priority. */
+    private void discardStaleMinimums() {
+        while (true) {
+            Double current = this.currentPriorities.get(this.items[0]);
+            if (current != null && current == this.priorities[0]) {
+                return;
+            }
+            pop();
+        }
+    }
+
+    private void push(T item, double priority) {
+        if (this.heapSize == this.items.length) {
+            this.items = Arrays.copyOf(this.items, this.heapSize * 2);
+            this.priorities = Arrays.copyOf(this.priorities, this.heapSize * 2);
+        }
+        int index = this.heapSize;
+        this.heapSize++;
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (this.priorities[parent] <= priority) {
+                break;
+            }
+            this.items[index] = this.items[parent];
+            this.priorities[index] = this.priorities[parent];
+            index = parent;
+        }
+        this.items[index] = item;
+        this.priorities[index] = priority;
+    }
+
+    /** Removes the entry at the top of the heap. */
+    private void pop() {
+        this.heapSize--;
+        T item = this.items[this.heapSize];
+        double priority = this.priorities[this.heapSize];
+        this.items[this.heapSize] = null;
+        if (this.heapSize == 0) {
+            return;
+        }
+
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= this.heapSize) {
+                break;
+            }
+            if (child + 1 < this.heapSize && this.priorities[child + 1] < this.priorities[child]) {
+                child++;
+            }
+            if (this.priorities[child] >= priority) {
+                break;
+            }
+            this.items[index] = this.items[child];
+            this.priorities[index] = this.priorities[child];
+            index = child;
+        }
+        this.items[index] = item;
+        this.priorities[index] = priority;
+    }
+}
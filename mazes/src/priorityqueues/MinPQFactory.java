@@ -0,0 +1,14 @@
+package priorityqueues;
+
+/**
+ * Creates empty {@link ExtrinsicMinPQ}s, so that clients such as shortest path finders can be
+ * configured with a PQ implementation.
+ *
+ * Since {@link #create} is generic, this cannot be implemented with a lambda; use a constructor
+ * reference such as {@code ArrayHeapMinPQ::new}, or a factory method such as
+ * {@link DaryHeapMinPQ#factory(int)}.
+ */
+public interface MinPQFactory {
+    /** Returns a new, empty PQ. */
+    <T> ExtrinsicMinPQ<T> create();
+}
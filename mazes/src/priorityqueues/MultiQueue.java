@@ -0,0 +1,217 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A relaxed min-priority queue that many threads may add to and poll from at once.
+ *
+ * The items are spread over several independently locked binary heaps. {@link #add} inserts into
+ * a random heap. {@link #poll} picks two heaps at random, and removes from whichever one's
+ * minimum is smaller. Each heap publishes its minimum priority, so choosing between the two needs
+ * no locks. If a heap's lock is taken, the operation tries other heaps rather than waiting.
+ *
+ * Because of this, {@link #poll} does not always return the minimum item. Call the number of
+ * items with smaller priorities still in the queue the rank error of a poll. With q heaps and
+ * two-choice removal, the expected rank error of a poll is O(q), and the rank error is
+ * O(q log q) with high probability. By default, q is twice the number of available processors.
+ * Parallel label-correcting searches tolerate this: an item polled early is just corrected later.
+ *
+ * Unlike {@link ExtrinsicMinPQ}, items may be added more than once, and there is no way to
+ * change an item's priority; add the item again with the new priority instead.
+ */
+public class MultiQueue<T> {
+    private static final int DEFAULT_HEAPS_PER_PROCESSOR = 2;
+
+    private final Heap<T>[] heaps;
+
+    /** Creates an empty queue with two heaps per available processor. */
+    public MultiQueue() {
+        this(DEFAULT_HEAPS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an empty queue with the given number of heaps. More heaps mean less contention
+     * between threads, but a larger rank error.
+     *
+     * @throws IllegalArgumentException if numHeaps is not positive
+     */
+    public MultiQueue(int numHeaps) {
+        if (numHeaps < 1) {
+            throw new IllegalArgumentException("Number of heaps must be positive, but was "
+                + numHeaps);
+        }
+        this.heaps = newHeapArray(numHeaps);
+        for (int i = 0; i < numHeaps; i++) {
+            this.heaps[i] = new Heap<>();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Heap<T>[] newHeapArray(int length) {
+        return (Heap<T>[]) new Heap[length];
+    }
+
+    /** Returns the number of heaps the items are spread over. */
+    public int numHeaps() {
+        return this.heaps.length;
+    }
+
+    /**
+     * Adds an item with the given priority.
+     *
+     * @throws IllegalArgumentException if item is null
+     */
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        Heap<T> heap = this.heaps[rand.nextInt(this.heaps.length)];
+        // after a round of busy heaps, wait for one instead of spinning
+        for (int attempt = 1; !heap.lock.tryLock(); attempt++) {
+            heap = this.heaps[rand.nextInt(this.heaps.length)];
+            if (attempt == this.heaps.length) {
+                heap.lock.lock();
+                break;
+            }
+        }
+        try {
+            heap.add(item, priority);
+        } finally {
+            heap.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns an item with a near-minimum priority, or returns null if the queue
+     * is empty.
+     *
+     * While other threads are adding items, this may return null if each heap was empty at the
+     * moment this checked it.
+     */
+    public T poll() {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        // the published minimums are only hints, so give up on sampling after a while
+        for (int attempt = 0; attempt < 2 * this.heaps.length; attempt++) {
+            Heap<T> heap = this.heaps[rand.nextInt(this.heaps.length)];
+            Heap<T> other = this.heaps[rand.nextInt(this.heaps.length)];
+            if (other.min < heap.min) {
+                heap = other;
+            }
+            if (heap.size == 0 || !heap.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (heap.size > 0) {
+                    return heap.removeMin();
+                }
+            } finally {
+                heap.lock.unlock();
+            }
+        }
+        for (Heap<T> heap : this.heaps) {
+            heap.lock.lock();
+            try {
+                if (heap.size > 0) {
+                    return heap.removeMin();
+                }
+            } finally {
+                heap.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of items in the queue. While other threads are modifying the queue,
+     * this is only an estimate.
+     */
+    public int size() {
+        int size = 0;
+        for (Heap<T> heap : this.heaps) {
+            size += heap.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** A binary min-heap that must only be modified while holding its lock. */
+    private static class Heap<T> {
+        private static final int DEFAULT_CAPACITY = 16;
+
+        final ReentrantLock lock;
+        private T[] items;
+        private double[] priorities;
+        // Written under the lock, but read without it to choose between heaps.
+        volatile int size;
+        volatile double min;
+
+        @SuppressWarnings("unchecked")
+        Heap() {
+            this.lock = new ReentrantLock();
+            this.items = (T[]) new Object[DEFAULT_CAPACITY];
+            this.priorities = new double[DEFAULT_CAPACITY];
+            this.size = 0;
+            this.min = Double.POSITIVE_INFINITY;
+        }
+
+        void add(T item, double priority) {
+            int size = this.size;
+            if (size == this.items.length) {
+                this.items = Arrays.copyOf(this.items, size * 2);
+                this.priorities = Arrays.copyOf(this.priorities, size * 2);
+            }
+            int index = size;
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (this.priorities[parent] <= priority) {
+                    break;
+                }
+                this.items[index] = this.items[parent];
+                this.priorities[index] = this.priorities[parent];
+                index = parent;
+            }
+            this.items[index] = item;
+            this.priorities[index] = priority;
+            this.size = size + 1;
+            this.min = this.priorities[0];
+        }
+
+        T removeMin() {
+            T min = this.items[0];
+            int size = this.size - 1;
+            T item = this.items[size];
+            double priority = this.priorities[size];
+            this.items[size] = null;
+
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && this.priorities[child + 1] < this.priorities[child]) {
+                    child++;
+                }
+                if (this.priorities[child] >= priority) {
+                    break;
+                }
+                this.items[index] = this.items[child];
+                this.priorities[index] = this.priorities[child];
+                index = child;
+            }
+            if (size > 0) {
+                this.items[index] = item;
+                this.priorities[index] = priority;
+            }
+            this.size = size;
+            this.min = size > 0 ? this.priorities[0] : Double.POSITIVE_INFINITY;
+            return min;
+        }
+    }
+}
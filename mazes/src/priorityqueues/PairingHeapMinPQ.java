@@ -0,0 +1,179 @@
+package priorityqueues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link ExtrinsicMinPQ} implemented as a pairing heap.
+ *
+ * Each item lives in its own node for its whole time in the PQ, and a map from item to node
+ * serves as a handle, so lowering a priority with {@link #changePriority} just cuts the node's
+ * subtree out and melds it back at the root: O(1) amortized (in practice), with no search and no
+ * reinsertion. {@link #add} is O(1), {@link #removeMin} is O(log n) amortized, and raising a
+ * priority costs about as much as a {@link #removeMin}.
+ */
+public class PairingHeapMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private Node<T> root;
+    private final Map<T, Node<T>> nodes;
+    // Reused by mergePairs to avoid allocating on every removeMin.
+    private final List<Node<T>> pairs;
+
+    public PairingHeapMinPQ() {
+        this.root = null;
+        this.nodes = new HashMap<>();
+        this.pairs = new ArrayList<>();
+    }
+
+    @Override
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        if (this.nodes.containsKey(item)) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        Node<T> node = new Node<>(item, priority);
+        this.nodes.put(item, node);
+        this.root = meld(this.root, node);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.nodes.containsKey(item);
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.root == null) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        return this.root.item;
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.root == null) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        Node<T> min = this.root;
+        this.nodes.remove(min.item);
+        this.root = mergePairs(min.child);
+        min.child = null;
+        return min.item;
+    }
+
+    @Override
+    public void changePriority(T item, double priority) {
+        Node<T> node = this.nodes.get(item);
+        if (node == null) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        if (priority <= node.priority) {
+            // The subtree stays heap-ordered, so it can be melded back as a whole.
+            node.priority = priority;
+            if (node != this.root) {
+                cut(node);
+                this.root = meld(this.root, node);
+            }
+            return;
+        }
+
+        // Raising the priority may break heap order with the children, so detach them first.
+        if (node == this.root) {
+            this.root = null;
+        } else {
+            cut(node);
+        }
+        Node<T> children = mergePairs(node.child);
+        node.child = null;
+        node.priority = priority;
+        this.root = meld(meld(this.root, children), node);
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.size();
+    }
+
+    /** Merges two heap roots, returning the new root. */
+    private Node<T> meld(Node<T> a, Node<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (b.priority < a.priority) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.prev = a;
+        b.sibling = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Merges the given list of sibling roots into one heap with the standard two-pass method:
+     * meld pairs from left to right, then meld the results from right to left.
+     */
+    private Node<T> mergePairs(Node<T> first) {
+        this.pairs.clear();
+        Node<T> a = first;
+        while (a != null) {
+            Node<T> b = a.sibling;
+            Node<T> next = b == null ? null : b.sibling;
+            detach(a);
+            if (b != null) {
+                detach(b);
+            }
+            this.pairs.add(meld(a, b));
+            a = next;
+        }
+        Node<T> result = null;
+        for (int i = this.pairs.size() - 1; i >= 0; i--) {
+            result = meld(this.pairs.get(i), result);
+        }
+        this.pairs.clear();
+        return result;
+    }
+
+    /** Removes the given non-root node, along with its subtree, from its parent's child list. */
+    private void cut(Node<T> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        detach(node);
+    }
+
+    private void detach(Node<T> node) {
+        node.prev = null;
+        node.sibling = null;
+    }
+
+    private static class Node<T> {
+        private final T item;
+        private double priority;
+        private Node<T> child;
+        private Node<T> sibling;
+        // The parent if this is the first child, or else the previous sibling.
+        private Node<T> prev;
+
+        Node(T item, double priority) {
+            this.item = item;
+            this.priority = priority;
+        }
+    }
+}
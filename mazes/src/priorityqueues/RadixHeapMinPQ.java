@@ -0,0 +1,172 @@
+package priorityqueues;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A monotone {@link ExtrinsicMinPQ} implemented as a radix heap.
+ *
+ * A radix heap only works when the minimum priority never decreases, as in Dijkstra's algorithm
+ * with non-negative edge weights: every priority passed to {@link #add} or
+ * {@link #changePriority} must be non-negative and no less than the priority of the last item
+ * returned by {@link #peekMin} or {@link #removeMin}. In exchange, items are kept in buckets
+ * by the highest bit in which their priority differs from that last minimum, so adding and
+ * changing priorities take O(1) time, and each item is moved between buckets at most 64 times
+ * over its lifetime (O(1) amortized per operation, independent of the number of items).
+ *
+ * Non-negative doubles compare the same way as their IEEE 754 bit patterns, so the buckets work
+ * directly on {@link Double#doubleToRawLongBits}; priorities need not be integers.
+ */
+public class RadixHeapMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private static final int NUM_BUCKETS = 64;
+
+    private final List<List<Entry<T>>> buckets;
+    private final Map<T, Entry<T>> entries;
+    // The key of the last minimum found; every key in the PQ is at least this.
+    private long lastKey;
+
+    public RadixHeapMinPQ() {
+        this.buckets = new ArrayList<>(NUM_BUCKETS);
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            this.buckets.add(new ArrayList<>());
+        }
+        this.entries = new HashMap<>();
+        this.lastKey = 0;
+    }
+
+    /**
+     * @throws IllegalArgumentException if priority is negative or is less than the priority of
+     *                                  the last item returned by peekMin or removeMin
+     * @see ExtrinsicMinPQ#add
+     */
+    @Override
+    public void add(T item, double priority) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null, but null items are not supported");
+        }
+        if (this.entries.containsKey(item)) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        Entry<T> entry = new Entry<>(item, toKey(priority));
+        this.entries.put(item, entry);
+        insert(entry);
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return this.entries.containsKey(item);
+    }
+
+    @Override
+    public T peekMin() {
+        if (this.entries.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        List<Entry<T>> minBucket = minBucket();
+        return minBucket.get(minBucket.size() - 1).item;
+    }
+
+    @Override
+    public T removeMin() {
+        if (this.entries.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty.");
+        }
+        List<Entry<T>> minBucket = minBucket();
+        Entry<T> min = minBucket.remove(minBucket.size() - 1);
+        this.entries.remove(min.item);
+        return min.item;
+    }
+
+    /**
+     * @throws IllegalArgumentException if priority is negative or is less than the priority of
+     *                                  the last item returned by peekMin or removeMin
+     * @see ExtrinsicMinPQ#changePriority
+     */
+    @Override
+    public void changePriority(T item, double priority) {
+        Entry<T> entry = this.entries.get(item);
+        if (entry == null) {
+            throw new NoSuchElementException(item + " not in PQ.");
+        }
+        long key = toKey(priority);
+        remove(entry);
+        entry.key = key;
+        insert(entry);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the bucket whose entries all have the minimum priority (bucket 0), first
+     * redistributing the lowest non-empty bucket if bucket 0 is empty.
+     */
+    private List<Entry<T>> minBucket() {
+        List<Entry<T>> first = this.buckets.get(0);
+        if (!first.isEmpty()) {
+            return first;
+        }
+        int index = 1;
+        while (this.buckets.get(index).isEmpty()) {
+            index++;
+        }
+        List<Entry<T>> bucket = this.buckets.get(index);
+        long minKey = Long.MAX_VALUE;
+        for (Entry<T> entry : bucket) {
+            minKey = Math.min(minKey, entry.key);
+        }
+        this.lastKey = minKey;
+        // every entry moves to a strictly lower bucket, and the minimum ones to bucket 0
+        List<Entry<T>> toMove = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<T> entry : toMove) {
+            insert(entry);
+        }
+        return first;
+    }
+
+    private long toKey(double priority) {
+        // adding 0.0 turns -0.0 into 0.0, whose bits compare correctly
+        long key = Double.doubleToRawLongBits(priority + 0.0);
+        if (!(priority >= 0) || key < this.lastKey) {
+            throw new IllegalArgumentException("Priority " + priority
+                + " is less than the last minimum " + Double.longBitsToDouble(this.lastKey));
+        }
+        return key;
+    }
+
+    private void insert(Entry<T> entry) {
+        int index = entry.key == this.lastKey
+            ? 0 : NUM_BUCKETS - Long.numberOfLeadingZeros(entry.key ^ this.lastKey);
+        List<Entry<T>> bucket = this.buckets.get(index);
+        entry.bucket = index;
+        entry.index = bucket.size();
+        bucket.add(entry);
+    }
+
+    private void remove(Entry<T> entry) {
+        List<Entry<T>> bucket = this.buckets.get(entry.bucket);
+        Entry<T> last = bucket.remove(bucket.size() - 1);
+        if (last != entry) {
+            bucket.set(entry.index, last);
+            last.index = entry.index;
+        }
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private long key;
+        private int bucket;
+        private int index;
+
+        Entry(T item, long key) {
+            this.item = item;
+            this.key = key;
+        }
+    }
+}
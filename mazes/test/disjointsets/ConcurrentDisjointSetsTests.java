@@ -0,0 +1,139 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ConcurrentDisjointSetsTests extends BaseTest {
+    private static final int NUM_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    @SafeVarargs
+    protected final <T> DisjointSets<T> createDisjointSets(T... items) {
+        DisjointSets<T> disjointSets = new ConcurrentDisjointSets<>(items.length);
+        for (T item : items) {
+            disjointSets.makeSet(item);
+        }
+        return disjointSets;
+    }
+
+    protected <T> DisjointSetsAssert<T> assertThat(DisjointSets<T> actual) {
+        return new DisjointSetsAssert<>(actual);
+    }
+
+    @Test
+    void findSet_afterMakeSet_returnsIdsInCreationOrder() {
+        DisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        assertThat(disjointSets).findingSets("a", "b", "c").containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void findSet_newItem_throwsIllegalArgument() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello world!");
+        assertThatThrownBy(() -> disjointSets.findSet("foo"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void makeSet_beyondCapacity_throwsIllegalState() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello world!");
+        assertThatThrownBy(() -> disjointSets.makeSet("foo"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void union_twoNewSets_returnsTrueThenFalse() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello", "world!");
+
+        assertThat(disjointSets.union("Hello", "world!")).isTrue();
+        assertThat(disjointSets.union("world!", "Hello")).isFalse();
+        int helloId = disjointSets.findSet("Hello");
+        assertThat(disjointSets).findingSets("world!").containsExactly(helloId);
+    }
+
+    @Test
+    void union_fromManyThreads_matchesSequentialResult() throws Exception {
+        final int numItems = 100_000;
+        final int unionsPerThread = 20_000;
+        DisjointSets<Integer> concurrent = new ConcurrentDisjointSets<>(numItems);
+        DisjointSets<Integer> sequential = new UnionBySizeCompressingDisjointSets<>();
+        IntStream.range(0, numItems).forEach(concurrent::makeSet);
+        IntStream.range(0, numItems).forEach(sequential::makeSet);
+
+        int[][] pairs = new int[NUM_THREADS][2 * unionsPerThread];
+        Random rand = new Random(373);
+        for (int[] threadPairs : pairs) {
+            for (int i = 0; i < threadPairs.length; i++) {
+                threadPairs[i] = rand.nextInt(numItems);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<Integer>> merges = new ArrayList<>();
+            for (int[] threadPairs : pairs) {
+                merges.add(executor.submit(() -> {
+                    int merged = 0;
+                    for (int i = 0; i < threadPairs.length; i += 2) {
+                        if (concurrent.union(threadPairs[i], threadPairs[i + 1])) {
+                            merged++;
+                        }
+                        concurrent.findSet(threadPairs[i]);
+                    }
+                    return merged;
+                }));
+            }
+
+            int concurrentMerges = 0;
+            for (Future<Integer> future : merges) {
+                concurrentMerges += future.get();
+            }
+            int sequentialMerges = 0;
+            for (int[] threadPairs : pairs) {
+                for (int i = 0; i < threadPairs.length; i += 2) {
+                    if (sequential.union(threadPairs[i], threadPairs[i + 1])) {
+                        sequentialMerges++;
+                    }
+                }
+            }
+            assertThat(concurrentMerges).isEqualTo(sequentialMerges);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 1; i < numItems; i++) {
+            boolean sameInSequential = sequential.findSet(i - 1) == sequential.findSet(i);
+            boolean sameInConcurrent = concurrent.findSet(i - 1) == concurrent.findSet(i);
+            assertThat(sameInConcurrent).as("items %d and %d in same set", i - 1, i)
+                .isEqualTo(sameInSequential);
+        }
+    }
+
+    @Test
+    void union_manyItemsFromManyThreads_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            DisjointSets<Integer> disjointSets = new ConcurrentDisjointSets<>(numItems);
+            IntStream.range(0, numItems).forEach(disjointSets::makeSet);
+
+            // every thread tries to join every adjacent pair, so almost all unions are contended
+            IntStream.range(0, NUM_THREADS).parallel().forEach(thread -> {
+                for (int i = 1; i < numItems; i++) {
+                    disjointSets.union(i - 1, i);
+                }
+            });
+
+            int id = disjointSets.findSet(0);
+            assertThat(disjointSets.findSet(numItems - 1)).isEqualTo(id);
+        });
+    }
+}
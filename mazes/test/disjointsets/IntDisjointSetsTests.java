@@ -0,0 +1,164 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class IntDisjointSetsTests extends BaseTest {
+
+    protected IntDisjointSets createDisjointSets(int n) {
+        IntDisjointSets disjointSets = new IntDisjointSets();
+        disjointSets.makeSets(n);
+        return disjointSets;
+    }
+
+    @Test
+    void find_afterMakeSets_returnsOwnId() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThat(disjointSets.find(0)).isEqualTo(0);
+        assertThat(disjointSets.find(1)).isEqualTo(1);
+        assertThat(disjointSets.find(2)).isEqualTo(2);
+    }
+
+    @Test
+    void makeSet_afterMakeSets_returnsNextId() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThat(disjointSets.makeSet()).isEqualTo(3);
+        assertThat(disjointSets.size()).isEqualTo(4);
+    }
+
+    @Test
+    void find_newId_throwsIllegalArgument() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThatThrownBy(() -> disjointSets.find(3))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> disjointSets.find(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_newId_throwsIllegalArgument() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThatThrownBy(() -> disjointSets.union(0, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_twoLeafIds_returnsTrueThenFalse() {
+        IntDisjointSets disjointSets = createDisjointSets(6);
+        disjointSets.union(0, 1);
+        disjointSets.union(1, 2);
+        disjointSets.union(3, 4);
+        disjointSets.union(4, 5);
+
+        assertThat(disjointSets.union(2, 5)).isTrue();
+        assertThat(disjointSets.union(5, 0)).isFalse();
+
+        int id = disjointSets.find(0);
+        for (int i = 1; i < 6; i++) {
+            assertThat(disjointSets.find(i)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void union_manyIds_isFast() {
+        final int numIds = 10_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntDisjointSets disjointSets = createDisjointSets(numIds);
+
+            Random rand = new Random(373);
+            for (int i = 0; i < numIds; i++) {
+                disjointSets.union(rand.nextInt(numIds), rand.nextInt(numIds));
+            }
+            for (int i = 1; i < numIds; i++) {
+                disjointSets.union(i - 1, i);
+            }
+
+            assertThat(disjointSets.find(numIds - 1)).isEqualTo(disjointSets.find(0));
+        });
+    }
+
+    @Test
+    void componentCountAndSizeOf_afterUnions_trackSets() {
+        IntDisjointSets disjointSets = createDisjointSets(5);
+        disjointSets.union(0, 1);
+        disjointSets.union(1, 2);
+        disjointSets.union(2, 0);
+
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+        assertThat(disjointSets.sizeOf(2)).isEqualTo(3);
+        assertThat(disjointSets.sizeOf(4)).isEqualTo(1);
+
+        List<Integer> representatives = new ArrayList<>();
+        disjointSets.representatives().forEachRemaining((int id) -> representatives.add(id));
+        assertThat(representatives).containsExactly(disjointSets.find(0), 3, 4);
+    }
+
+    @Test
+    void unionAll_pairs_matchesSingleUnions() {
+        IntDisjointSets disjointSets = createDisjointSets(6);
+        boolean[] merged = new boolean[4];
+
+        int numMerged = disjointSets.unionAll(
+            new int[]{0, 1, 3, 2},
+            new int[]{1, 2, 4, 0},
+            merged);
+
+        assertThat(numMerged).isEqualTo(3);
+        assertThat(merged).containsExactly(true, true, true, false);
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void unionAll_newId_throwsIllegalArgumentWithoutMerging() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThatThrownBy(() -> disjointSets.unionAll(new int[]{0, 1}, new int[]{1, 3}, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void unionAll_mismatchedLengths_throwsIllegalArgument() {
+        IntDisjointSets disjointSets = createDisjointSets(3);
+        assertThatThrownBy(() -> disjointSets.unionAll(new int[]{0, 1}, new int[]{1}, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findAll_afterUnions_writesSetIds() {
+        IntDisjointSets disjointSets = createDisjointSets(4);
+        disjointSets.union(0, 1);
+        disjointSets.union(2, 1);
+        int[] out = new int[4];
+
+        disjointSets.findAll(new int[]{3, 2, 1, 0}, out);
+
+        int id = disjointSets.find(0);
+        assertThat(out).containsExactly(3, id, id, id);
+    }
+
+    @Test
+    void unionAll_manyPairs_isFast() {
+        final int numIds = 10_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntDisjointSets disjointSets = createDisjointSets(numIds);
+            int[] ids1 = new int[numIds];
+            int[] ids2 = new int[numIds];
+            Random rand = new Random(373);
+            for (int i = 0; i < numIds; i++) {
+                ids1[i] = rand.nextInt(numIds);
+                ids2[i] = rand.nextInt(numIds);
+            }
+
+            int numMerged = disjointSets.unionAll(ids1, ids2, null);
+
+            assertThat(disjointSets.componentCount()).isEqualTo(numIds - numMerged);
+        });
+    }
+}
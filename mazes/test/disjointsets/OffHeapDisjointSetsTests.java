@@ -0,0 +1,111 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+public class OffHeapDisjointSetsTests extends BaseTest {
+    // Small chunks, so that the tests cross many chunk boundaries.
+    private static final int TEST_CHUNK_SHIFT = 12;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findSet_afterMakeSets_returnsOwnId() {
+        OffHeapDisjointSets disjointSets = OffHeapDisjointSets.allocateDirect();
+        disjointSets.makeSets(3);
+        assertThat(disjointSets.findSet(0)).isEqualTo(0);
+        assertThat(disjointSets.findSet(2)).isEqualTo(2);
+        assertThat(disjointSets.makeSet()).isEqualTo(3);
+    }
+
+    @Test
+    void findSet_newId_throwsIllegalArgument() {
+        OffHeapDisjointSets disjointSets = OffHeapDisjointSets.allocateDirect();
+        disjointSets.makeSets(3);
+        assertThatThrownBy(() -> disjointSets.findSet(3))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> disjointSets.union(0, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_twoLeafIds_returnsTrueThenFalse() {
+        OffHeapDisjointSets disjointSets = OffHeapDisjointSets.allocateDirect();
+        disjointSets.makeSets(6);
+        disjointSets.union(0, 1);
+        disjointSets.union(1, 2);
+        disjointSets.union(3, 4);
+        disjointSets.union(4, 5);
+
+        assertThat(disjointSets.union(2, 5)).isTrue();
+        assertThat(disjointSets.union(5, 0)).isFalse();
+        assertThat(disjointSets.findSet(3)).isEqualTo(disjointSets.findSet(0));
+    }
+
+    @Test
+    void residentBytes_growsWithSize() {
+        OffHeapDisjointSets disjointSets = OffHeapDisjointSets.allocateDirect();
+        assertThat(disjointSets.residentBytes()).isZero();
+        disjointSets.makeSets(100_000);
+        assertThat(disjointSets.residentBytes()).isBetween(100_000L * Long.BYTES, 200_000L * Long.BYTES);
+    }
+
+    @Test
+    void union_acrossChunks_matchesIntDisjointSets() throws IOException {
+        final int numIds = 50_000;
+        FileChannel channel = FileChannel.open(tempDir.resolve("sets.bin"), StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        OffHeapDisjointSets[] allSets = {
+            new OffHeapDisjointSets(null, TEST_CHUNK_SHIFT),
+            new OffHeapDisjointSets(channel, TEST_CHUNK_SHIFT)
+        };
+        for (OffHeapDisjointSets disjointSets : allSets) {
+            IntDisjointSets expected = new IntDisjointSets();
+            Random rand = new Random(373);
+            for (int i = 0; i < numIds; i++) {
+                expected.makeSet();
+                disjointSets.makeSet();
+                int id1 = rand.nextInt(i + 1);
+                int id2 = rand.nextInt(i + 1);
+                assertThat(disjointSets.union(id1, id2)).isEqualTo(expected.union(id1, id2));
+            }
+            for (int i = 1; i < numIds; i++) {
+                assertThat(disjointSets.findSet(i - 1) == disjointSets.findSet(i))
+                    .isEqualTo(expected.find(i - 1) == expected.find(i));
+            }
+        }
+        channel.close();
+    }
+
+    @Test
+    void mapped_createsBackingFile() throws IOException {
+        Path path = tempDir.resolve("mapped.bin");
+        try (OffHeapDisjointSets disjointSets = OffHeapDisjointSets.mapped(path)) {
+            disjointSets.makeSets(10_000);
+            disjointSets.union(0, 9_999);
+
+            assertThat(disjointSets.findSet(9_999)).isEqualTo(disjointSets.findSet(0));
+            assertThat(path).exists();
+        }
+    }
+
+    @Test
+    void close_mapped_keepsExistingSetsButCannotGrow() throws IOException {
+        OffHeapDisjointSets disjointSets = OffHeapDisjointSets.mapped(tempDir.resolve("closed.bin"));
+        disjointSets.makeSets(10);
+        disjointSets.close();
+
+        assertThat(disjointSets.union(0, 9)).isTrue();
+        assertThat(disjointSets.findSet(9)).isEqualTo(disjointSets.findSet(0));
+        assertThatThrownBy(() -> disjointSets.makeSets(10_000)).isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class QuickFindDisjointSetsTests extends BaseTest {
+
+    @SafeVarargs
+    protected final <T> QuickFindDisjointSets<T> createDisjointSets(T... items) {
+        QuickFindDisjointSets<T> disjointSets = new QuickFindDisjointSets<>();
+        Arrays.stream(items).forEach(disjointSets::makeSet);
+        return disjointSets;
+    }
+
+    @Test
+    void makeSet_existingItem_throwsIllegalArgument() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello world!");
+        assertThatThrownBy(() -> disjointSets.makeSet("Hello world!"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void componentCountAndSizeOf_afterUnions_trackSets() {
+        SizedDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c", "d", "e");
+        disjointSets.union("a", "b");
+        disjointSets.union("b", "c");
+        disjointSets.union("c", "a");
+
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+        assertThat(disjointSets.sizeOf("a")).isEqualTo(3);
+        assertThat(disjointSets.sizeOf("d")).isEqualTo(1);
+    }
+
+    @Test
+    void representatives_afterUnions_returnsIdOfEachSet() {
+        SizedDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c", "d", "e");
+        disjointSets.union("a", "b");
+        disjointSets.union("c", "d");
+
+        List<Integer> representatives = new ArrayList<>();
+        disjointSets.representatives().forEachRemaining((int id) -> representatives.add(id));
+
+        assertThat(representatives).containsExactlyInAnyOrder(
+            disjointSets.findSet("a"), disjointSets.findSet("c"), disjointSets.findSet("e"));
+    }
+}
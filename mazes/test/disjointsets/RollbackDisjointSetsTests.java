@@ -0,0 +1,144 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class RollbackDisjointSetsTests extends BaseTest {
+
+    @SafeVarargs
+    protected final <T> RollbackDisjointSets<T> createDisjointSets(T... items) {
+        RollbackDisjointSets<T> disjointSets = new RollbackDisjointSets<>();
+        Arrays.stream(items).forEach(disjointSets::makeSet);
+        return disjointSets;
+    }
+
+    protected <T> DisjointSetsAssert<T> assertThat(DisjointSets<T> actual) {
+        return new DisjointSetsAssert<>(actual);
+    }
+
+    @Test
+    void findSet_afterMakeSet_returnsIdsInCreationOrder() {
+        DisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        assertThat(disjointSets).findingSets("a", "b", "c").containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void union_newItem_throwsIllegalArgument() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello", "world!");
+        assertThatThrownBy(() -> disjointSets.union("foo", "world!"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_sameSet_returnsFalse() {
+        DisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        disjointSets.union("a", "b");
+        disjointSets.union("b", "c");
+
+        assertThat(disjointSets.union("c", "a")).isFalse();
+    }
+
+    @Test
+    void rollback_toCheckpoint_undoesLaterUnions() {
+        RollbackDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c", "d");
+        disjointSets.union("a", "b");
+        int aId = disjointSets.findSet("a");
+        int checkpoint = disjointSets.checkpoint();
+        disjointSets.union("c", "d");
+        disjointSets.union("a", "c");
+
+        disjointSets.rollback(checkpoint);
+
+        assertThat(disjointSets).findingSets("a", "b", "c", "d").containsExactly(aId, aId, 2, 3);
+    }
+
+    @Test
+    void rollback_thenUnion_behavesLikeFreshSets() {
+        RollbackDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        int checkpoint = disjointSets.checkpoint();
+        disjointSets.union("a", "b");
+        disjointSets.union("b", "c");
+        disjointSets.rollback(checkpoint);
+
+        assertThat(disjointSets.union("c", "b")).isTrue();
+        assertThat(disjointSets).findingSets("a").containsExactly(0);
+        assertThat(disjointSets.findSet("b")).isEqualTo(disjointSets.findSet("c"));
+    }
+
+    @Test
+    void rollback_toLaterCheckpoint_throwsIllegalArgument() {
+        RollbackDisjointSets<String> disjointSets = createDisjointSets("a", "b");
+        int checkpoint = disjointSets.checkpoint();
+        disjointSets.union("a", "b");
+        int laterCheckpoint = disjointSets.checkpoint();
+        disjointSets.rollback(checkpoint);
+
+        assertThatThrownBy(() -> disjointSets.rollback(laterCheckpoint))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rollback_toStaleCheckpointAfterMoreUnions_throwsIllegalArgument() {
+        RollbackDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        int checkpoint = disjointSets.checkpoint();
+        disjointSets.union("a", "b");
+        int laterCheckpoint = disjointSets.checkpoint();
+        disjointSets.rollback(checkpoint);
+        disjointSets.union("b", "c");
+
+        assertThatThrownBy(() -> disjointSets.rollback(laterCheckpoint))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> disjointSets.rollback(12345))
+            .isInstanceOf(IllegalArgumentException.class);
+        disjointSets.rollback(checkpoint);
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rollback_manySmallVariants_isFasterThanRebuilding() {
+        final int numItems = 100_000;
+        final int numVariants = 10_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            RollbackDisjointSets<Integer> disjointSets = new RollbackDisjointSets<>();
+            IntStream.range(0, numItems).forEach(disjointSets::makeSet);
+            for (int i = 1; i < numItems / 2; i++) {
+                disjointSets.union(i - 1, i);
+            }
+
+            // Rebuilding 10^5 sets for each of 10^4 variants would take far longer than this.
+            int base = disjointSets.checkpoint();
+            for (int variant = 0; variant < numVariants; variant++) {
+                int item = numItems / 2 + variant;
+                disjointSets.union(0, item);
+                disjointSets.union(item, item + 1);
+                assertThat(disjointSets.findSet(item + 1)).isEqualTo(disjointSets.findSet(0));
+                disjointSets.rollback(base);
+            }
+
+            assertThat(disjointSets.findSet(numItems - 1)).isEqualTo(numItems - 1);
+        });
+    }
+
+    @Test
+    void componentCountAndSizeOf_afterRollback_restoreCounts() {
+        RollbackDisjointSets<String> disjointSets = createDisjointSets("a", "b", "c", "d");
+        disjointSets.union("a", "b");
+        int checkpoint = disjointSets.checkpoint();
+        disjointSets.union("c", "d");
+        disjointSets.union("a", "d");
+        assertThat(disjointSets.componentCount()).isEqualTo(1);
+        assertThat(disjointSets.sizeOf("c")).isEqualTo(4);
+
+        disjointSets.rollback(checkpoint);
+
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+        assertThat(disjointSets.sizeOf("a")).isEqualTo(2);
+        assertThat(disjointSets.sizeOf("c")).isEqualTo(1);
+    }
+}
@@ -5,8 +5,11 @@ import org.junit.jupiter.api.Test;
 import utils.IntWrapper;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
@@ -165,4 +168,87 @@ public class UnionBySizeCompressingDisjointSetsTests extends BaseTest {
 
     }
 
+    @Test
+    void findSet_afterMakeSet_returnsIdsInCreationOrder() {
+        DisjointSets<String> disjointSets = createDisjointSets("a", "b", "c");
+        assertThat(disjointSets).findingSets("a", "b", "c").containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void makeSet_existingItem_throwsIllegalArgument() {
+        DisjointSets<String> disjointSets = createDisjointSets("Hello world!");
+        assertThatThrownBy(() -> disjointSets.makeSet("Hello world!"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_afterUnion_compressesPathsToRoot() {
+        DisjointSets<String> disjointSets = createDisjointSets("a", "b", "c", "d");
+        disjointSets.union("a", "b");
+        disjointSets.union("c", "d");
+        disjointSets.union("a", "c");
+
+        int root = disjointSets.findSet("d");
+        List<Integer> pointers = getPointers(disjointSets);
+        assertThat(pointers.get(root)).isEqualTo(-4);
+        assertThat(pointers.get(3)).isEqualTo(root);
+    }
+
+    @Test
+    void union_manyItems_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            DisjointSets<Integer> disjointSets = new UnionBySizeCompressingDisjointSets<>();
+            IntStream.range(0, numItems).forEach(disjointSets::makeSet);
+
+            Random rand = new Random(373);
+            for (int i = 0; i < numItems; i++) {
+                disjointSets.union(rand.nextInt(numItems), rand.nextInt(numItems));
+            }
+            for (int i = 1; i < numItems; i++) {
+                disjointSets.union(i - 1, i);
+            }
+
+            int id = disjointSets.findSet(0);
+            assertThat(disjointSets.findSet(numItems - 1)).isEqualTo(id);
+        });
+    }
+
+    @Test
+    void componentCount_afterUnions_countsRemainingSets() {
+        SizedDisjointSets<String> disjointSets =
+            (SizedDisjointSets<String>) createDisjointSets("a", "b", "c", "d", "e");
+        assertThat(disjointSets.componentCount()).isEqualTo(5);
+
+        disjointSets.union("a", "b");
+        disjointSets.union("c", "d");
+        disjointSets.union("b", "a");
+
+        assertThat(disjointSets.componentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void sizeOf_afterUnions_returnsSizeOfSet() {
+        SizedDisjointSets<String> disjointSets =
+            (SizedDisjointSets<String>) createDisjointSets("a", "b", "c", "d", "e");
+        disjointSets.union("a", "b");
+        disjointSets.union("b", "c");
+
+        assertThat(disjointSets.sizeOf("c")).isEqualTo(3);
+        assertThat(disjointSets.sizeOf("e")).isEqualTo(1);
+    }
+
+    @Test
+    void representatives_afterUnions_returnsIdOfEachSet() {
+        SizedDisjointSets<String> disjointSets =
+            (SizedDisjointSets<String>) createDisjointSets("a", "b", "c", "d", "e");
+        disjointSets.union("a", "b");
+        disjointSets.union("c", "d");
+
+        List<Integer> representatives = new ArrayList<>();
+        disjointSets.representatives().forEachRemaining((int id) -> representatives.add(id));
+
+        assertThat(representatives).containsExactlyInAnyOrder(
+            disjointSets.findSet("a"), disjointSets.findSet("c"), disjointSets.findSet("e"));
+    }
 }
@@ -0,0 +1,88 @@
+package graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class AdjacencyListDirectedGraphTests extends BaseGraphTests {
+
+    @Test
+    void outgoingAndIncomingEdges_followEdgeDirection() {
+        AdjacencyListDirectedGraph<String, Edge<String>> graph = directedGraph(
+            edge("a", "b", 1),
+            edge("b", "c", 2),
+            edge("c", "b", 3),
+            edge("c", "c", 4));
+
+        assertThat(graph.outgoingEdgesFrom("b")).containsExactly(edge("b", "c", 2));
+        assertThat(graph.incomingEdgesTo("b")).containsExactly(edge("a", "b", 1), edge("c", "b", 3));
+        assertThat(graph.outgoingEdgesFrom("c")).containsExactly(edge("c", "b", 3), edge("c", "c", 4));
+        assertThat(graph.incomingEdgesTo("c")).containsExactly(edge("b", "c", 2), edge("c", "c", 4));
+        assertThat(graph.incomingEdgesTo("a")).isEmpty();
+        assertThat(graph.outgoingEdgesFrom("d")).isEmpty();
+        assertThat(graph.incomingEdgesTo("d")).isEmpty();
+        assertThat(graph.allVertices()).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void edgeSets_areUnmodifiable() {
+        AdjacencyListDirectedGraph<String, Edge<String>> graph = directedGraph(edge("a", "b", 1));
+        assertThatThrownBy(() -> graph.outgoingEdgesFrom("a").clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> graph.incomingEdgesTo("b").add(edge("c", "b", 1)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void constructor_nullVertex_throwsNullPointer() {
+        assertThatThrownBy(() -> directedGraph(edge("a", null)))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> directedGraph(edge(null, "a")))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void allVertices_includesVerticesWithOnlyIncomingEdges() {
+        AdjacencyListDirectedGraph<String, Edge<String>> graph = directedGraph(
+            edge("a", "b", 1),
+            edge("a", "c", 2));
+
+        assertThat(graph.allVertices()).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(graph.outgoingEdgesFrom("b")).isEmpty();
+        assertThat(graph.incomingEdgesTo("b")).containsExactly(edge("a", "b", 1));
+    }
+
+    @Test
+    void constructor_withDuplicateEdges_keepsFirstOfEachEdge() {
+        // a few vertices with many edges each, so both ways of finding duplicates are used
+        Random rand = new Random(373);
+        for (int numVertices : new int[]{4, 40}) {
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(3)));
+            }
+            AdjacencyListDirectedGraph<Integer, Edge<Integer>> graph = directedGraph(edges);
+
+            Set<Edge<Integer>> expectedEdges = new LinkedHashSet<>(edges);
+            assertThat(graph.allEdges()).containsExactlyElementsOf(expectedEdges);
+            for (Integer vertex : graph.allVertices()) {
+                assertThat(graph.outgoingEdgesFrom(vertex)).containsExactlyElementsOf(
+                    expectedEdges.stream().filter(e -> e.from().equals(vertex)).collect(Collectors.toList()));
+                assertThat(graph.incomingEdgesTo(vertex)).containsExactlyElementsOf(
+                    expectedEdges.stream().filter(e -> e.to().equals(vertex)).collect(Collectors.toList()));
+
+                List<Edge<Integer>> visited = new ArrayList<>();
+                graph.forEachOutgoingEdge(vertex, visited::add);
+                assertThat(visited).containsExactlyElementsOf(graph.outgoingEdgesFrom(vertex));
+                visited.clear();
+                graph.forEachIncomingEdge(vertex, visited::add);
+                assertThat(visited).containsExactlyElementsOf(graph.incomingEdgesTo(vertex));
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class AdjacencyListUndirectedGraphTests extends BaseGraphTests {
+
+    /** Returns each vertex's outgoing edges, computed by storing every edge in both directions. */
+    private <V, E extends BaseEdge<V, E>> Map<V, Set<E>> expectedOutgoingEdges(List<E> edges) {
+        Map<V, Set<E>> outgoing = new HashMap<>();
+        for (E e : edges) {
+            outgoing.computeIfAbsent(e.from(), v -> new HashSet<>()).add(e);
+            outgoing.computeIfAbsent(e.to(), v -> new HashSet<>()).add(e.reversed());
+        }
+        return outgoing;
+    }
+
+    @Test
+    void outgoingEdgesFrom_returnsForwardAndReversedEdges() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
+            edge("a", "b", 1),
+            edge("b", "c", 2),
+            edge("c", "c", 3));
+
+        assertThat(graph.outgoingEdgesFrom("b"))
+            .containsExactlyInAnyOrder(edge("b", "a", 1), edge("b", "c", 2))
+            .contains(edge("b", "a", 1));
+        assertThat(graph.outgoingEdgesFrom("c"))
+            .containsExactlyInAnyOrder(edge("c", "b", 2), edge("c", "c", 3));
+        assertThat(graph.outgoingEdgesFrom("d")).isEmpty();
+        assertThat(graph.allEdges()).hasSize(3);
+    }
+
+    @Test
+    void outgoingEdgesFrom_isUnmodifiable() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(edge("a", "b", 1));
+        assertThatThrownBy(() -> graph.outgoingEdgesFrom("a").add(edge("a", "c", 1)))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> graph.outgoingEdgesFrom("a").clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void constructor_withDuplicateEdges_keepsFirstOfEachEdge() {
+        // a few vertices with many edges each, so both ways of finding duplicates are used
+        Random rand = new Random(373);
+        for (int numVertices : new int[]{4, 40}) {
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(3)));
+            }
+            AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+
+            Map<Integer, Set<Edge<Integer>>> expected = expectedOutgoingEdges(edges);
+            assertThat(graph.allVertices()).isEqualTo(expected.keySet());
+            for (Integer vertex : expected.keySet()) {
+                assertThat(graph.outgoingEdgesFrom(vertex)).isEqualTo(expected.get(vertex));
+                List<Edge<Integer>> visited = new ArrayList<>();
+                graph.forEachOutgoingEdge(vertex, visited::add);
+                assertThat(visited).containsExactlyElementsOf(graph.outgoingEdgesFrom(vertex));
+            }
+
+            Set<Edge<Integer>> seen = new HashSet<>();
+            List<Edge<Integer>> expectedEdges = new ArrayList<>();
+            for (Edge<Integer> e : edges) {
+                if (!seen.contains(e.reversed()) && seen.add(e)) {
+                    expectedEdges.add(e);
+                }
+            }
+            assertThat(graph.allEdges()).containsExactlyElementsOf(expectedEdges);
+        }
+    }
+
+    @Test
+    void adjacencyList_inSubclass_matchesOutgoingEdges() {
+        List<Edge<String>> edges = List.of(edge("a", "b", 1), edge("b", "c", 2));
+        Map<String, Set<Edge<String>>> adjacencyList =
+            new AdjacencyListUndirectedGraph<String, Edge<String>>(edges) {
+                Map<String, Set<Edge<String>>> view() {
+                    return this.adjacencyList;
+                }
+            }.view();
+
+        assertThat(adjacencyList).isEqualTo(expectedOutgoingEdges(edges));
+        assertThatThrownBy(() -> adjacencyList.remove("a"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,210 @@
+package graphs;
+
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import graphs.minspantrees.MinimumSpanningTreeFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPathFinder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class CsrGraphTests extends BaseGraphTests {
+
+    /** Returns random edges over a few vertices, including repeats, reversals, and self-loops. */
+    private List<Edge<Integer>> randomEdges(int numVertices, int numEdges) {
+        Random rand = new Random(373);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < numEdges; i++) {
+            edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), 1 + rand.nextInt(3)));
+        }
+        return edges;
+    }
+
+    @Test
+    void outgoingEdgesFrom_returnsForwardAndReversedEdges() {
+        CsrGraph<String, Edge<String>> graph = new CsrGraph<>(List.of(
+            edge("a", "b", 1),
+            edge("b", "c", 2)));
+
+        assertThat(graph.outgoingEdgesFrom("a")).containsExactlyInAnyOrder(edge("a", "b", 1));
+        assertThat(graph.outgoingEdgesFrom("b"))
+            .containsExactlyInAnyOrder(edge("b", "a", 1), edge("b", "c", 2));
+        assertThat(graph.outgoingEdgesFrom("d")).isEmpty();
+        assertThat(graph.allVertices()).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void slots_matchOutgoingEdges() {
+        CsrGraph<String, Edge<String>> graph = new CsrGraph<>(List.of(
+            edge("a", "b", 1),
+            edge("a", "c", 2),
+            edge("a", "a", 3)));
+
+        int a = graph.indexOf("a");
+        List<Edge<String>> fromSlots = new ArrayList<>();
+        for (int slot = graph.slotStart(a); slot < graph.slotEnd(a); slot++) {
+            fromSlots.add(edge("a", graph.vertex(graph.target(slot)), graph.weight(slot)));
+        }
+        assertThat(fromSlots).containsExactlyInAnyOrderElementsOf(graph.outgoingEdgesFrom("a"));
+        assertThat(graph.indexOf("z")).isEqualTo(-1);
+        assertThat(graph.vertexCount()).isEqualTo(3);
+    }
+
+    @Test
+    void forEachOutgoing_matchesOutgoingEdges() {
+        CsrGraph<String, Edge<String>> graph = new CsrGraph<>(List.of(
+            edge("a", "b", 1),
+            edge("c", "a", 2),
+            edge("a", "a", 3)));
+
+        int a = graph.indexOf("a");
+        List<Edge<String>> visited = new ArrayList<>();
+        graph.forEachOutgoing(a, (toId, weight) -> visited.add(edge("a", graph.vertex(toId), weight)));
+        assertThat(visited).containsExactlyElementsOf(graph.outgoingEdgesFrom("a"));
+
+        List<Edge<String>> edges = new ArrayList<>();
+        graph.forEachOutgoingEdge("a", edges::add);
+        assertThat(edges).containsExactlyElementsOf(graph.outgoingEdgesFrom("a"));
+    }
+
+    @Test
+    void constructor_withDuplicateEdges_matchesAdjacencyListGraph() {
+        List<Edge<Integer>> edges = randomEdges(20, 500);
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> expected = graph(edges);
+        CsrGraph<Integer, Edge<Integer>> graph = new CsrGraph<>(edges);
+
+        assertThat(graph.allEdges()).containsExactlyElementsOf(expected.allEdges());
+        assertThat(graph.allVertices()).containsExactlyInAnyOrderElementsOf(expected.allVertices());
+        for (Integer vertex : expected.allVertices()) {
+            assertThat(graph.outgoingEdgesFrom(vertex))
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected.outgoingEdgesFrom(vertex));
+        }
+    }
+
+    @Test
+    void constructor_nullVertex_throwsNullPointer() {
+        assertThatThrownBy(() -> new CsrGraph<>(List.of(edge("a", null))))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void findersOnCsrGraph_matchAdjacencyListGraph() {
+        List<Edge<Integer>> edges = randomEdges(200, 2000);
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> expected = graph(edges);
+        CsrGraph<Integer, Edge<Integer>> graph = new CsrGraph<>(edges);
+
+        MinimumSpanningTreeFinder<KruskalGraph<Integer, Edge<Integer>>, Integer, Edge<Integer>> mstFinder =
+            KruskalMinimumSpanningTreeFinder.withIndexedSets();
+        assertThat(mstFinder.findMinimumSpanningTree(graph).totalWeight())
+            .isEqualTo(mstFinder.findMinimumSpanningTree(expected).totalWeight());
+
+        ShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+            DijkstraShortestPathFinder.withIndexedSearch();
+        for (int end = 1; end < 200; end += 20) {
+            assertThat(pathFinder.findShortestPath(graph, 0, end).totalWeight())
+                .isEqualTo(pathFinder.findShortestPath(expected, 0, end).totalWeight());
+        }
+        assertThat(pathFinder.findShortestPath(graph, 0, -1).exists()).isFalse();
+    }
+
+    @Test
+    void withFloatWeights_visitsFloatWeightsButKeepsExactEdges() {
+        CsrGraph<String, Edge<String>> graph = CsrGraph.withFloatWeights(List.of(
+            edge("a", "b", 0.1),
+            edge("a", "c", 2.5)));
+
+        int a = graph.indexOf("a");
+        List<Double> visited = new ArrayList<>();
+        graph.forEachOutgoing(a, (toId, weight) -> visited.add(weight));
+        assertThat(visited).containsExactly((double) 0.1f, 2.5);
+        assertThat(graph.weight(graph.slotStart(a))).isEqualTo((double) 0.1f);
+        assertThat(graph.outgoingEdgesFrom("a")).containsExactly(edge("a", "b", 0.1), edge("a", "c", 2.5));
+        assertThat(graph.outgoingEdgesFrom("b")).containsExactly(edge("b", "a", 0.1));
+    }
+
+    @Test
+    void withQuantizedWeights_roundsToMultiplesOfScale() {
+        CsrGraph<String, Edge<String>> graph = CsrGraph.withQuantizedWeights(List.of(
+            edge("a", "b", 1.2),
+            edge("a", "c", 2.6),
+            edge("a", "a", 0)), 0.5);
+
+        int a = graph.indexOf("a");
+        List<Double> visited = new ArrayList<>();
+        graph.forEachOutgoing(a, (toId, weight) -> visited.add(weight));
+        assertThat(visited).containsExactly(1.0, 2.5, 0.0);
+        assertThat(graph.weight(graph.slotStart(graph.indexOf("c")))).isEqualTo(2.5);
+    }
+
+    @Test
+    void withQuantizedWeights_unrepresentableWeight_throwsIllegalArgument() {
+        assertThatThrownBy(() -> CsrGraph.withQuantizedWeights(List.of(edge("a", "b", -1)), 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CsrGraph.withQuantizedWeights(List.of(edge("a", "b", 70000)), 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CsrGraph.withQuantizedWeights(List.of(edge("a", "b", 1)), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void edgesByWeight_withQuantizedWeights_keepsEqualRoundedWeightsInOrder() {
+        CsrGraph<String, Edge<String>> graph = CsrGraph.withQuantizedWeights(List.of(
+            edge("a", "b", 3),
+            edge("b", "c", 1.2),
+            edge("c", "d", 0.9),
+            edge("d", "e", 2)), 1);
+
+        assertThat(graph.edgesByWeight()).containsExactly(
+            edge("b", "c", 1.2), edge("c", "d", 0.9), edge("d", "e", 2), edge("a", "b", 3));
+        assertThat(new CsrGraph<>(graph.allEdges()).edgesByWeight()).containsExactly(
+            edge("c", "d", 0.9), edge("b", "c", 1.2), edge("d", "e", 2), edge("a", "b", 3));
+    }
+
+    @Test
+    void findersOnPackedGraphs_withIntegerWeights_matchExactGraph() {
+        List<Edge<Integer>> edges = randomEdges(200, 2000);
+        CsrGraph<Integer, Edge<Integer>> expected = new CsrGraph<>(edges);
+        List<CsrGraph<Integer, Edge<Integer>>> packedGraphs = List.of(
+            CsrGraph.withFloatWeights(edges), CsrGraph.withQuantizedWeights(edges, 1));
+
+        MinimumSpanningTreeFinder<KruskalGraph<Integer, Edge<Integer>>, Integer, Edge<Integer>> mstFinder =
+            KruskalMinimumSpanningTreeFinder.withIndexedSets();
+        ShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+            DijkstraShortestPathFinder.withIndexedSearch();
+        for (CsrGraph<Integer, Edge<Integer>> graph : packedGraphs) {
+            assertThat(graph.edgesByWeight()).containsExactlyElementsOf(expected.edgesByWeight());
+            assertThat(mstFinder.findMinimumSpanningTree(graph).edges())
+                .containsExactlyElementsOf(mstFinder.findMinimumSpanningTree(expected).edges());
+            for (int end = 1; end < 200; end += 20) {
+                assertThat(pathFinder.findShortestPath(graph, 0, end).totalWeight())
+                    .isEqualTo(pathFinder.findShortestPath(expected, 0, end).totalWeight());
+            }
+        }
+    }
+
+    @Test
+    void constructor_millionVertexGrid_isFast() {
+        final int size = 1000;
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            if (vertex % size + 1 < size) {
+                edges.add(edge(vertex, vertex + 1));
+            }
+            if (vertex + size < size * size) {
+                edges.add(edge(vertex, vertex + size));
+            }
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CsrGraph<Integer, Edge<Integer>> graph = new CsrGraph<>(edges);
+            assertThat(graph.vertexCount()).isEqualTo(size * size);
+            assertThat(new HashSet<>(graph.outgoingEdgesFrom(size + 1))).hasSize(4);
+        });
+    }
+}
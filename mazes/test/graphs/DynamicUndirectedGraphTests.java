@@ -0,0 +1,116 @@
+package graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class DynamicUndirectedGraphTests extends BaseGraphTests {
+
+    @Test
+    void addEdge_newAndDuplicateEdges_returnsWhetherAdded() {
+        DynamicUndirectedGraph<String, Edge<String>> graph = new DynamicUndirectedGraph<>();
+        assertThat(graph.addEdge(edge("a", "b", 1))).isTrue();
+        assertThat(graph.addEdge(edge("b", "a", 1))).isFalse();
+        assertThat(graph.addEdge(edge("a", "b", 2))).isTrue();
+        assertThat(graph.addEdge(edge("c", "c", 3))).isTrue();
+
+        assertThat(graph.outgoingEdgesFrom("b"))
+            .containsExactlyInAnyOrder(edge("b", "a", 1), edge("b", "a", 2));
+        assertThat(graph.outgoingEdgesFrom("c")).containsExactly(edge("c", "c", 3));
+        assertThat(graph.allEdges()).hasSize(3);
+    }
+
+    @Test
+    void removeEdge_byEitherDirection_removesFromBothEndpoints() {
+        DynamicUndirectedGraph<String, Edge<String>> graph = new DynamicUndirectedGraph<>(List.of(
+            edge("a", "b", 1),
+            edge("b", "c", 2),
+            edge("c", "a", 3)));
+
+        assertThat(graph.removeEdge(edge("b", "a", 1))).isTrue();
+        assertThat(graph.removeEdge(edge("a", "b", 1))).isFalse();
+        assertThat(graph.containsEdge(edge("a", "b", 1))).isFalse();
+        assertThat(graph.containsEdge(edge("a", "c", 3))).isTrue();
+
+        assertThat(graph.outgoingEdgesFrom("a")).containsExactly(edge("a", "c", 3));
+        assertThat(graph.outgoingEdgesFrom("b")).containsExactly(edge("b", "c", 2));
+        assertThat(graph.allEdges()).containsExactlyInAnyOrder(edge("b", "c", 2), edge("c", "a", 3));
+    }
+
+    @Test
+    void removeEdge_lastEdgeOfVertex_keepsVertex() {
+        DynamicUndirectedGraph<String, Edge<String>> graph = new DynamicUndirectedGraph<>();
+        graph.addVertex("z");
+        graph.addEdge(edge("a", "b", 1));
+        graph.removeEdge(edge("a", "b", 1));
+
+        assertThat(graph.allVertices()).containsExactlyInAnyOrder("a", "b", "z");
+        assertThat(graph.outgoingEdgesFrom("a")).isEmpty();
+        assertThat(graph.allEdges()).isEmpty();
+    }
+
+    @Test
+    void addEdge_nullVertex_throwsNullPointer() {
+        DynamicUndirectedGraph<String, Edge<String>> graph = new DynamicUndirectedGraph<>();
+        assertThatThrownBy(() -> graph.addEdge(edge("a", null)))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void randomAddsAndRemoves_matchRebuiltAdjacencyListGraph() {
+        final int numVertices = 30;
+        DynamicUndirectedGraph<Integer, Edge<Integer>> graph = new DynamicUndirectedGraph<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 5000; i++) {
+            Edge<Integer> e = edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(2));
+            if (rand.nextBoolean()) {
+                graph.addEdge(e);
+            } else {
+                graph.removeEdge(e);
+            }
+
+            if (i % 500 == 0) {
+                AdjacencyListUndirectedGraph<Integer, Edge<Integer>> expected = graph(graph.allEdges());
+                for (Integer vertex : expected.allVertices()) {
+                    assertThat(graph.outgoingEdgesFrom(vertex))
+                        .doesNotHaveDuplicates()
+                        .containsExactlyInAnyOrderElementsOf(expected.outgoingEdgesFrom(vertex));
+                    List<Edge<Integer>> visited = new ArrayList<>();
+                    graph.forEachOutgoingEdge(vertex, visited::add);
+                    assertThat(visited).containsExactlyElementsOf(graph.outgoingEdgesFrom(vertex));
+                }
+                assertThat(graph.allVertices()).containsAll(expected.allVertices());
+            }
+        }
+    }
+
+    @Test
+    void addAndRemoveEdge_manyEdges_isFast() {
+        final int size = 500;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            DynamicUndirectedGraph<Integer, Edge<Integer>> graph = new DynamicUndirectedGraph<>();
+            for (int vertex = 0; vertex < size * size; vertex++) {
+                if (vertex % size + 1 < size) {
+                    graph.addEdge(edge(vertex, vertex + 1));
+                }
+                if (vertex + size < size * size) {
+                    graph.addEdge(edge(vertex, vertex + size));
+                }
+            }
+            // remove every other horizontal edge, then put them back
+            for (int vertex = 0; vertex + 1 < size * size; vertex += 2) {
+                graph.removeEdge(edge(vertex + 1, vertex));
+            }
+            for (int vertex = 0; vertex + 1 < size * size; vertex += 2) {
+                graph.addEdge(edge(vertex, vertex + 1));
+            }
+            assertThat(new HashSet<>(graph.outgoingEdgesFrom(size + 1))).hasSize(4);
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class GraphBuilderTests extends BaseGraphTests {
+
+    /** Returns random edges over a few vertices, including repeats, reversals, and self-loops. */
+    private List<Edge<Integer>> randomEdges(int numVertices, int numEdges) {
+        Random rand = new Random(373);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < numEdges; i++) {
+            edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), 1 + rand.nextInt(3)));
+        }
+        return edges;
+    }
+
+    private List<Edge<Integer>> gridEdges(int size) {
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            if (vertex % size + 1 < size) {
+                edges.add(edge(vertex, vertex + 1));
+            }
+            if (vertex + size < size * size) {
+                edges.add(edge(vertex, vertex + size));
+            }
+        }
+        return edges;
+    }
+
+    private <V, E extends BaseEdge<V, E>> void assertSameGraph(CsrGraph<V, E> actual, CsrGraph<V, E> expected) {
+        assertThat(actual.allEdges()).containsExactlyElementsOf(expected.allEdges());
+        assertThat(actual.allVertices()).containsExactlyElementsOf(expected.allVertices());
+        for (V vertex : expected.allVertices()) {
+            assertThat(actual.outgoingEdgesFrom(vertex)).containsExactlyElementsOf(expected.outgoingEdgesFrom(vertex));
+        }
+    }
+
+    @Test
+    void build_withDuplicateEdges_matchesCsrGraph() {
+        List<Edge<Integer>> edges = randomEdges(20, 500);
+        GraphBuilder<Integer, Edge<Integer>> builder = new GraphBuilder<>(4);
+        edges.forEach(builder::add);
+
+        assertSameGraph(builder.build(), new CsrGraph<>(edges));
+    }
+
+    @Test
+    void build_withManyEdgesBetweenEachPair_matchesCsrGraph() {
+        List<Edge<Integer>> edges = randomEdges(3, 500);
+        GraphBuilder<Integer, Edge<Integer>> builder = new GraphBuilder<>(2);
+        edges.forEach(builder::add);
+
+        assertSameGraph(builder.build(), new CsrGraph<>(edges));
+    }
+
+    @Test
+    void build_withNoEdges_isEmpty() {
+        CsrGraph<String, Edge<String>> graph = new GraphBuilder<String, Edge<String>>().build();
+        assertThat(graph.allVertices()).isEmpty();
+        assertThat(graph.allEdges()).isEmpty();
+    }
+
+    @Test
+    void addAll_parallelStream_keepsEncounterOrder() {
+        List<Edge<Integer>> edges = randomEdges(100, 5000);
+        GraphBuilder<Integer, Edge<Integer>> builder = new GraphBuilder<>(2);
+        builder.addAll(edges.parallelStream());
+
+        assertSameGraph(builder.build(), new CsrGraph<>(edges));
+    }
+
+    @Test
+    void add_fromManyThreads_containsEveryEdge() throws InterruptedException {
+        List<Edge<Integer>> edges = randomEdges(1000, 20000);
+        GraphBuilder<Integer, Edge<Integer>> builder = new GraphBuilder<>();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            List<Edge<Integer>> part = edges.subList(t * 5000, (t + 1) * 5000);
+            producers.add(new Thread(() -> part.forEach(builder::add)));
+        }
+        for (Thread producer : producers) {
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // which duplicate is kept depends on thread timing, so only compare edges up to direction
+        CsrGraph<Integer, Edge<Integer>> graph = builder.build();
+        CsrGraph<Integer, Edge<Integer>> expected = new CsrGraph<>(edges);
+        assertThat(graph.allEdges()).hasSameSizeAs(expected.allEdges());
+        assertThat(graph.allVertices()).containsExactlyInAnyOrderElementsOf(expected.allVertices());
+        for (Edge<Integer> e : expected.allEdges()) {
+            assertThat(graph.outgoingEdgesFrom(e.from())).containsAnyOf(e, e.reversed());
+        }
+    }
+
+    @Test
+    void build_nullVertex_throwsNullPointer() {
+        GraphBuilder<String, Edge<String>> builder = new GraphBuilder<>();
+        builder.add(edge("a", "b")).add(edge("b", null));
+        assertThatThrownBy(builder::build).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructor_nonPositiveParallelism_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new GraphBuilder<String, Edge<String>>(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void build_millionVertexGrid_matchesCsrGraph() {
+        List<Edge<Integer>> edges = gridEdges(1000);
+        CsrGraph<Integer, Edge<Integer>> expected = new CsrGraph<>(edges);
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            int processors = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; ; threads = Math.min(2 * threads, processors)) {
+                GraphBuilder<Integer, Edge<Integer>> builder = new GraphBuilder<>(threads);
+                builder.addAll(edges.stream());
+                CsrGraph<Integer, Edge<Integer>> graph = builder.build();
+                assertThat(graph.vertexCount()).isEqualTo(expected.vertexCount());
+                assertThat(graph.outgoingEdgesFrom(1001))
+                    .containsExactlyElementsOf(expected.outgoingEdgesFrom(1001));
+                if (threads == processors) {
+                    break;
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package graphs;
+
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPathFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ImplicitGraphTests extends BaseGraphTests {
+
+    /**
+     * An infinite path of integers, like {@link InfiniteGraph}, that counts how many times it
+     * generates a vertex's edges.
+     */
+    private static class CountingInfiniteGraph extends ImplicitGraph<Integer, Edge<Integer>> {
+        int generatedCount = 0;
+
+        CountingInfiniteGraph() {
+            super();
+        }
+
+        CountingInfiniteGraph(int cacheCapacity) {
+            super(cacheCapacity);
+        }
+
+        @Override
+        protected void generateOutgoingEdges(Integer vertex, Consumer<? super Edge<Integer>> sink) {
+            this.generatedCount++;
+            sink.accept(new Edge<>(vertex, vertex - 1, 1));
+            sink.accept(new Edge<>(vertex, vertex + 1, 1));
+        }
+    }
+
+    @Test
+    void outgoingEdgesFrom_withoutCache_regeneratesEdges() {
+        CountingInfiniteGraph graph = new CountingInfiniteGraph();
+        assertThat(graph.outgoingEdgesFrom(5)).containsExactly(edge(5, 4), edge(5, 6));
+        assertThat(graph.outgoingEdgesFrom(5)).isNotSameAs(graph.outgoingEdgesFrom(5));
+        assertThat(graph.cachedVertexCount()).isZero();
+    }
+
+    @Test
+    void outgoingEdgesFrom_withCache_reusesEdges() {
+        CountingInfiniteGraph graph = new CountingInfiniteGraph(10);
+        assertThat(graph.outgoingEdgesFrom(5)).containsExactly(edge(5, 4), edge(5, 6));
+        assertThat(graph.outgoingEdgesFrom(5)).isSameAs(graph.outgoingEdgesFrom(5));
+    }
+
+    @Test
+    void outgoingEdgesFrom_isUnmodifiable() {
+        CountingInfiniteGraph graph = new CountingInfiniteGraph(10);
+        assertThatThrownBy(() -> graph.outgoingEdgesFrom(5).clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void cache_overCapacity_evictsLeastRecentlyUsed() {
+        CountingInfiniteGraph graph = new CountingInfiniteGraph(2);
+        List<Edge<Integer>> first = graph.outgoingEdgesFrom(1);
+        graph.outgoingEdgesFrom(2);
+        graph.outgoingEdgesFrom(1);
+        graph.outgoingEdgesFrom(3);
+
+        assertThat(graph.cachedVertexCount()).isEqualTo(2);
+        assertThat(graph.outgoingEdgesFrom(1)).isSameAs(first);
+        List<Edge<Integer>> second = graph.outgoingEdgesFrom(2);
+        assertThat(graph.outgoingEdgesFrom(2)).isSameAs(second);
+    }
+
+    @Test
+    void forEachOutgoingEdge_matchesOutgoingEdges() {
+        for (CountingInfiniteGraph graph : List.of(new CountingInfiniteGraph(), new CountingInfiniteGraph(10))) {
+            List<Edge<Integer>> edges = new ArrayList<>();
+            graph.forEachOutgoingEdge(-3, edges::add);
+            assertThat(edges).containsExactlyElementsOf(graph.outgoingEdgesFrom(-3));
+        }
+    }
+
+    @Test
+    void constructor_negativeCapacity_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new CountingInfiniteGraph(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dijkstra_repeatedSearchWithCache_generatesNoEdgesAgain() {
+        final int distance = 10_000;
+        CountingInfiniteGraph cached = new CountingInfiniteGraph(4 * distance);
+        CountingInfiniteGraph uncached = new CountingInfiniteGraph();
+        ShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> finder =
+            new DijkstraShortestPathFinder<>();
+        for (CountingInfiniteGraph graph : List.of(cached, uncached)) {
+            for (int search = 0; search < 2; search++) {
+                assertThat(finder.findShortestPath(graph, 0, distance).totalWeight()).isEqualTo(distance);
+            }
+        }
+
+        // a search expands about 2 * distance vertices, all of which fit in the cache
+        assertThat(cached.generatedCount).isGreaterThanOrEqualTo(2 * distance - 1);
+        assertThat(cached.cachedVertexCount()).isEqualTo(cached.generatedCount);
+        assertThat(uncached.generatedCount).isEqualTo(2 * cached.generatedCount);
+    }
+
+    @Test
+    void dijkstra_withCacheSmallerThanSearch_keepsCacheBounded() {
+        final int distance = 10_000;
+        CountingInfiniteGraph graph = new CountingInfiniteGraph(100);
+        ShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> finder =
+            new DijkstraShortestPathFinder<>();
+        assertThat(finder.findShortestPath(graph, 0, distance).totalWeight()).isEqualTo(distance);
+        assertThat(graph.cachedVertexCount()).isEqualTo(100);
+    }
+}
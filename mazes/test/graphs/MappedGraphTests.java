@@ -0,0 +1,165 @@
+package graphs;
+
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPathFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class MappedGraphTests extends BaseGraphTests {
+    @TempDir
+    Path tempDir;
+
+    private List<Edge<Long>> toLongEdges(Iterable<Edge<Integer>> edges) {
+        List<Edge<Long>> result = new ArrayList<>();
+        edges.forEach(e -> result.add(edge((long) e.from(), (long) e.to(), e.weight())));
+        return result;
+    }
+
+    @Test
+    void open_afterWrite_hasSameOutgoingEdges() throws IOException {
+        Random rand = new Random(373);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            edges.add(edge(rand.nextInt(200) * 7 - 500, rand.nextInt(200) * 7 - 500, rand.nextDouble()));
+        }
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+        Path path = tempDir.resolve("graph.bin");
+        MappedGraph.write(graph, Integer::longValue, path);
+        MappedGraph mapped = MappedGraph.open(path);
+
+        assertThat(mapped.vertexCount()).isEqualTo(graph.allVertices().size());
+        for (Integer vertex : graph.allVertices()) {
+            assertThat(mapped.outgoingEdgesFrom((long) vertex))
+                .containsExactlyElementsOf(toLongEdges(graph.outgoingEdgesFrom(vertex)));
+            int id = mapped.indexOf((long) vertex);
+            assertThat(mapped.vertex(id)).isEqualTo((long) vertex);
+            List<Edge<Long>> visited = new ArrayList<>();
+            mapped.forEachOutgoing(id, (toId, weight) -> visited.add(edge((long) vertex, mapped.vertex(toId), weight)));
+            assertThat(visited).containsExactlyElementsOf(mapped.outgoingEdgesFrom((long) vertex));
+        }
+        assertThat(mapped.outgoingEdgesFrom(1L)).isEmpty();
+        assertThat(mapped.indexOf(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void findShortestPath_onMappedGraph_matchesOriginalGraph() throws IOException {
+        Random rand = new Random(373);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            edges.add(edge(rand.nextInt(500), rand.nextInt(500), 1 + rand.nextInt(10)));
+        }
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+        Path path = tempDir.resolve("graph.bin");
+        MappedGraph.write(graph, Integer::longValue, path);
+        MappedGraph mapped = MappedGraph.open(path);
+
+        ShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> finder =
+            new DijkstraShortestPathFinder<>();
+        ShortestPathFinder<Graph<Long, Edge<Long>>, Long, Edge<Long>> mappedFinder =
+            DijkstraShortestPathFinder.withIndexedSearch();
+        int start = edges.get(0).from();
+        for (Integer end : graph.allVertices().stream().limit(50).collect(Collectors.toList())) {
+            assertThat(mappedFinder.findShortestPath(mapped, (long) start, (long) end).exists())
+                .isEqualTo(finder.findShortestPath(graph, start, end).exists());
+            if (finder.findShortestPath(graph, start, end).exists()) {
+                assertThat(mappedFinder.findShortestPath(mapped, (long) start, (long) end).totalWeight())
+                    .isEqualTo(finder.findShortestPath(graph, start, end).totalWeight());
+            }
+        }
+    }
+
+    @Test
+    void write_duplicateKeys_throwsIllegalArgument() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(edge("a", "b"));
+        assertThatThrownBy(() -> MappedGraph.write(graph, vertex -> 0, tempDir.resolve("graph.bin")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void write_failingPartway_keepsExistingFile() throws IOException {
+        Path path = tempDir.resolve("graph.bin");
+        MappedGraph.write(graph(edge(1, 2, 3)), Integer::longValue, path);
+
+        // vertex 2's edge leads to vertex 3, which is not in allVertices, so writing fails after it starts
+        KruskalGraph<Integer, Edge<Integer>> badGraph = new KruskalGraph<>() {
+            @Override
+            public List<Integer> allVertices() {
+                return List.of(1, 2);
+            }
+
+            @Override
+            public List<Edge<Integer>> allEdges() {
+                return List.of(edge(1, 2, 1), edge(2, 3, 1));
+            }
+
+            @Override
+            public List<Edge<Integer>> outgoingEdgesFrom(Integer vertex) {
+                return vertex == 1 ? List.of(edge(1, 2, 1)) : List.of(edge(2, 3, 1));
+            }
+        };
+        assertThatThrownBy(() -> MappedGraph.write(badGraph, Integer::longValue, path))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(MappedGraph.open(path).outgoingEdgesFrom(1L)).containsExactly(edge(1L, 2L, 3));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void open_notAGraphFile_throwsIOException() throws IOException {
+        Path path = tempDir.resolve("other.bin");
+        Files.write(path, new byte[64]);
+        assertThatThrownBy(() -> MappedGraph.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open_decreasingOffsets_throwsIOException() throws IOException {
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edge(1, 2), edge(2, 3));
+        Path path = tempDir.resolve("graph.bin");
+        MappedGraph.write(graph, Integer::longValue, path);
+
+        // the header, 3 keys, and 4 weights come before the offsets; make vertex 1's offset past vertex 2's
+        byte[] bytes = Files.readAllBytes(path);
+        int offsetsStart = 4 * Integer.BYTES + 3 * Long.BYTES + 4 * Double.BYTES;
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offsetsStart + Integer.BYTES, 4);
+        Files.write(path, bytes);
+        assertThatThrownBy(() -> MappedGraph.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open_millionEdgeGraph_isFast() throws IOException {
+        final int size = 708;
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int vertex = 0; vertex < size * size; vertex++) {
+            if (vertex % size + 1 < size) {
+                edges.add(edge(vertex, vertex + 1));
+            }
+            if (vertex + size < size * size) {
+                edges.add(edge(vertex, vertex + size));
+            }
+        }
+        Path path = tempDir.resolve("grid.bin");
+        MappedGraph.write(new CsrGraph<>(edges), Integer::longValue, path);
+
+        assertTimeoutPreemptively(Duration.ofMillis(500), () -> {
+            MappedGraph mapped = MappedGraph.open(path);
+            assertThat(mapped.vertexCount()).isEqualTo(size * size);
+            assertThat(mapped.outgoingEdgesFrom((long) size + 1)).hasSize(4);
+        });
+    }
+}
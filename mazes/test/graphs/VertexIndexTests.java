@@ -0,0 +1,54 @@
+package graphs;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class VertexIndexTests extends BaseTest {
+
+    @Test
+    void intern_newAndRepeatedVertices_assignsIdsInOrder() {
+        VertexIndex<String> index = new VertexIndex<>();
+        assertThat(index.intern("a")).isEqualTo(0);
+        assertThat(index.intern("b")).isEqualTo(1);
+        assertThat(index.intern("a")).isEqualTo(0);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.vertex(1)).isEqualTo("b");
+        assertThat(index.vertices()).containsExactly("a", "b");
+    }
+
+    @Test
+    void indexOf_missingVertex_returnsNegativeOne() {
+        VertexIndex<String> index = VertexIndex.of(List.of("a", "b"));
+        assertThat(index.indexOf("b")).isEqualTo(1);
+        assertThat(index.indexOf("c")).isEqualTo(-1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void intern_nullVertex_throwsIllegalArgument() {
+        VertexIndex<String> index = new VertexIndex<>();
+        assertThatThrownBy(() -> index.intern(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void vertex_invalidId_throwsIndexOutOfBounds() {
+        VertexIndex<String> index = VertexIndex.of(List.of("a"));
+        assertThatThrownBy(() -> index.vertex(1))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void intern_manyVertices_growsAndKeepsIds() {
+        VertexIndex<Integer> index = new VertexIndex<>();
+        IntStream.range(0, 10_000).forEach(i -> index.intern(i * 7));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.indexOf(i * 7)).isEqualTo(i);
+            assertThat(index.vertex(i)).isEqualTo(i * 7);
+        }
+    }
+}
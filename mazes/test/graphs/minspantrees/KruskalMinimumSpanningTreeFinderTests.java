@@ -4,6 +4,7 @@ import disjointsets.DisjointSets;
 import graphs.AdjacencyListUndirectedGraph;
 import graphs.BaseEdge;
 import graphs.BaseGraphTests;
+import graphs.CsrGraph;
 import graphs.Edge;
 import graphs.KruskalGraph;
 import graphs.ZeroEdgeGraph;
@@ -81,6 +82,38 @@ public class KruskalMinimumSpanningTreeFinderTests extends BaseGraphTests {
         assertThatMSTOf(graph).hasEdges();
     }
 
+    @Test
+    void findWithIndexedSets_onCsrGraph_returnsSameEdges() {
+        List<Edge<String>> edges = List.of(
+            edge("a", "b", 1),
+            edge("b", "e", 6),
+            edge("e", "c", 5),
+            edge("c", "d", 4),
+            edge("a", "c", 3),
+            edge("a", "d", 2)
+        );
+        CsrGraph<String, Edge<String>> graph = new CsrGraph<>(edges);
+        MinimumSpanningTreeFinder<CsrGraph<String, Edge<String>>, String, Edge<String>> mstFinder =
+            KruskalMinimumSpanningTreeFinder.withIndexedSets();
+
+        assertThat(mstFinder.findMinimumSpanningTree(graph).edges())
+            .containsExactly(edges.get(0), edges.get(5), edges.get(4), edges.get(2));
+    }
+
+    @Test
+    void findWithIndexedSets_onDisconnectedCsrGraph_returnsDoesNotExist() {
+        CsrGraph<String, Edge<String>> graph = new CsrGraph<>(List.of(
+            edge("a", "b", 2),
+            edge("d", "c", 3),
+            edge("d", "e", 1)
+        ));
+        MinimumSpanningTreeFinder<CsrGraph<String, Edge<String>>, String, Edge<String>> mstFinder =
+            KruskalMinimumSpanningTreeFinder.withIndexedSets();
+
+        assertThat(mstFinder.findMinimumSpanningTree(graph).exists()).isFalse();
+        assertThat(mstFinder.findMinimumSpanningTree(new CsrGraph<String, Edge<String>>(List.of())).exists()).isTrue();
+    }
+
     protected <V> List<Edge<V>> getEdges(AdjacencyListUndirectedGraph<V, Edge<V>> graph,
                                          int... edgeIndices) {
         return getEdges(graph, Arrays.stream(edgeIndices));
@@ -1,20 +1,36 @@
 package graphs.shortestpaths;
 
+import graphs.AdjacencyListUndirectedGraph;
 import graphs.BaseEdge;
 import graphs.BaseGraphTests;
+import graphs.CsrGraph;
 import graphs.Edge;
 import graphs.Graph;
+import graphs.IndexedGraph;
 import graphs.InfiniteGraph;
 import graphs.InfiniteIntWrapperGraph;
+import graphs.VertexIndex;
 import graphs.ZeroEdgeGraph;
 import org.assertj.core.api.MapAssert;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import priorityqueues.ArrayHeapMinPQ;
+import priorityqueues.BucketMinPQ;
+import priorityqueues.DaryHeapMinPQ;
+import priorityqueues.DoubleMapMinPQ;
 import priorityqueues.ExtrinsicMinPQ;
+import priorityqueues.LazyDeletionMinPQ;
+import priorityqueues.MinPQFactory;
+import priorityqueues.PairingHeapMinPQ;
+import priorityqueues.RadixHeapMinPQ;
 import utils.IntWrapper;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
@@ -367,6 +383,145 @@ public class DijkstraShortestPathFinderTests extends BaseGraphTests {
             .hasWeightCloseTo(2);
     }
 
+    /** Returns a size-by-size grid graph with random integer weights from 1 to maxWeight. */
+    private AdjacencyListUndirectedGraph<Integer, Edge<Integer>> randomGridGraph(int size, int maxWeight) {
+        Random rand = new Random(373);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int vertex = row * size + col;
+                if (col + 1 < size) {
+                    edges.add(edge(vertex, vertex + 1, 1 + rand.nextInt(maxWeight)));
+                }
+                if (row + 1 < size) {
+                    edges.add(edge(vertex, vertex + size, 1 + rand.nextInt(maxWeight)));
+                }
+            }
+        }
+        return graph(edges);
+    }
+
+    @Test
+    void findShortestPath_withEachPQFactory_returnsSameWeight() {
+        final int size = 100;
+        Graph<Integer, Edge<Integer>> graph = randomGridGraph(size, 100);
+        SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> referenceFinder =
+            new DijkstraShortestPathFinder<>(DoubleMapMinPQ::new);
+        double expectedWeight = referenceFinder.findShortestPath(graph, 0, size * size - 1).totalWeight();
+
+        List<MinPQFactory> factories = List.of(ArrayHeapMinPQ::new, LazyDeletionMinPQ::new,
+            PairingHeapMinPQ::new,
+            DaryHeapMinPQ.factory(2), DaryHeapMinPQ.factory(4), DaryHeapMinPQ.factory(8));
+        for (MinPQFactory factory : factories) {
+            SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+                new DijkstraShortestPathFinder<>(factory);
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThat(pathFinder).findingShortestPath(graph, 0, size * size - 1)
+                    .hasWeightCloseTo(expectedWeight);
+            });
+        }
+    }
+
+    @Test
+    void findShortestPath_lazyAndEagerPQsOnLargeGrid_areFast() {
+        final int size = 300;
+        Graph<Integer, Edge<Integer>> graph = randomGridGraph(size, 100);
+        List<MinPQFactory> factories = List.of(ArrayHeapMinPQ::new, LazyDeletionMinPQ::new);
+        List<Double> weights = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (MinPQFactory factory : factories) {
+                SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+                    new DijkstraShortestPathFinder<>(factory);
+                weights.add(pathFinder.findShortestPath(graph, 0, size * size - 1).totalWeight());
+            }
+        });
+        assertThat(weights.get(1)).isCloseTo(weights.get(0), offset(1e-9));
+    }
+
+    @Test
+    void findShortestPath_onIndexedGraph_returnsSameWeight() {
+        final int size = 100;
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = randomGridGraph(size, 100);
+        VertexIndex<Integer> index = VertexIndex.of(graph.allVertices());
+        // uses the default forEachOutgoing, which delegates to outgoingEdgesFrom
+        IndexedGraph<Integer, Edge<Integer>> indexedGraph = new IndexedGraph<>() {
+            @Override
+            public int vertexCount() {
+                return index.size();
+            }
+
+            @Override
+            public int indexOf(Integer vertex) {
+                return index.indexOf(vertex);
+            }
+
+            @Override
+            public Integer vertex(int id) {
+                return index.vertex(id);
+            }
+
+            @Override
+            public Collection<Edge<Integer>> outgoingEdgesFrom(Integer vertex) {
+                return graph.outgoingEdgesFrom(vertex);
+            }
+        };
+        SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> referenceFinder =
+            createShortestPathFinder();
+        double expectedWeight = referenceFinder.findShortestPath(graph, 0, size * size - 1).totalWeight();
+
+        SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+            DijkstraShortestPathFinder.withIndexedSearch();
+        assertThat(pathFinder).findingShortestPath(indexedGraph, 0, size * size - 1)
+            .hasWeightCloseTo(expectedWeight);
+        assertThat(pathFinder.findShortestPath(indexedGraph, 0, -1).exists()).isFalse();
+        assertThat(pathFinder.findShortestPath(indexedGraph, 7, 7).exists()).isTrue();
+        assertThat(pathFinder).findingShortestPath(indexedGraph, size * size - 1, 0)
+            .hasWeightCloseTo(expectedWeight);
+    }
+
+    @Test
+    void findShortestPath_onIndexedGraphByDefault_usesCreateMinPQ() {
+        Graph<Integer, Edge<Integer>> graph = new CsrGraph<>(List.of(edge(0, 1, 2), edge(1, 2, 3)));
+        List<ExtrinsicMinPQ<?>> created = new ArrayList<>();
+        SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+            new DijkstraShortestPathFinder<>() {
+                @Override
+                protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+                    ExtrinsicMinPQ<T> pq = super.createMinPQ();
+                    created.add(pq);
+                    return pq;
+                }
+            };
+
+        assertThat(pathFinder).findingShortestPath(graph, 0, 2).hasWeightCloseTo(5);
+        assertThat(created).hasSize(1);
+    }
+
+    @Test
+    void findShortestPath_withMonotonePQsOnIntegerWeights_returnsSameWeight() {
+        final int size = 100;
+        for (int maxWeight : new int[]{10, 1 << 20}) {
+            Graph<Integer, Edge<Integer>> graph = randomGridGraph(size, maxWeight);
+            SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> referenceFinder =
+                createShortestPathFinder();
+            double expectedWeight = referenceFinder.findShortestPath(graph, 0, size * size - 1).totalWeight();
+            double expectedMiddleWeight = referenceFinder.findShortestPath(graph, 0, size * size / 2).totalWeight();
+
+            List<MinPQFactory> factories = List.of(RadixHeapMinPQ::new, BucketMinPQ.factory(maxWeight));
+            for (MinPQFactory factory : factories) {
+                SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder =
+                    new DijkstraShortestPathFinder<>(factory);
+                // a second search on the same finder must start from a fresh PQ
+                assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                    assertThat(pathFinder).findingShortestPath(graph, 0, size * size - 1)
+                        .hasWeightCloseTo(expectedWeight);
+                    assertThat(pathFinder).findingShortestPath(graph, 0, size * size / 2)
+                        .hasWeightCloseTo(expectedMiddleWeight);
+                });
+            }
+        }
+    }
+
     abstract class PathExists<V, E extends BaseEdge<V, E>> {
         final Graph<V, E> graph;
         final Map<V, E> spt;
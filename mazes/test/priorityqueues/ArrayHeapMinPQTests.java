@@ -0,0 +1,58 @@
+package priorityqueues;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ArrayHeapMinPQTests extends BaseExtrinsicMinPQTests {
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new ArrayHeapMinPQ<>();
+    }
+
+    /** An item that counts how often it is hashed, which the heap does each time it moves it. */
+    private static class CountingItem {
+        static long hashes = 0;
+        private final int id;
+
+        CountingItem(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            hashes++;
+            return Integer.hashCode(this.id);
+        }
+    }
+
+    @Test
+    void addAll_descendingPriorities_movesFewerItemsThanRepeatedAdd() {
+        final int numItems = 100_000;
+        List<CountingItem> items = new ArrayList<>(numItems);
+        double[] priorities = new double[numItems];
+        for (int i = 0; i < numItems; i++) {
+            items.add(new CountingItem(i));
+            priorities[i] = numItems - i;
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            // each added item sifts all the way up, so repeated adds move items n log n times
+            CountingItem.hashes = 0;
+            ExtrinsicMinPQ<CountingItem> pq = createMinPQ();
+            for (int i = 0; i < numItems; i++) {
+                pq.add(items.get(i), priorities[i]);
+            }
+            long repeatedAdd = CountingItem.hashes;
+
+            CountingItem.hashes = 0;
+            createMinPQ().addAll(items, priorities);
+            long bulkLoad = CountingItem.hashes;
+
+            assertThat(bulkLoad).isLessThan(4L * numItems).isLessThan(repeatedAdd / 4);
+        });
+    }
+}
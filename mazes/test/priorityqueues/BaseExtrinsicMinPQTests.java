@@ -0,0 +1,246 @@
+package priorityqueues;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests that every {@link ExtrinsicMinPQ} implementation should pass.
+ */
+public abstract class BaseExtrinsicMinPQTests extends BaseTest {
+
+    protected abstract <T> ExtrinsicMinPQ<T> createMinPQ();
+
+    protected <T> List<T> removeAll(ExtrinsicMinPQ<T> pq) {
+        List<T> output = new ArrayList<>();
+        while (!pq.isEmpty()) {
+            output.add(pq.removeMin());
+        }
+        return output;
+    }
+
+    @Test
+    void size_afterAdds_returnsNumberOfItems() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThat(pq.isEmpty()).isTrue();
+        pq.add("a", 1);
+        pq.add("b", 2);
+
+        assertThat(pq.size()).isEqualTo(2);
+        assertThat(pq.isEmpty()).isFalse();
+    }
+
+    @Test
+    void add_nullItem_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(() -> pq.add(null, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void add_duplicateItem_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        assertThatThrownBy(() -> pq.add("a", 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void peekMin_emptyPQ_throwsNoSuchElement() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(pq::peekMin).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void removeMin_emptyPQ_throwsNoSuchElement() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(pq::removeMin).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void changePriority_missingItem_throwsNoSuchElement() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        assertThatThrownBy(() -> pq.changePriority("b", 2))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void contains_afterAddAndRemove_tracksItems() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        pq.add("b", 2);
+        pq.removeMin();
+
+        assertThat(pq.contains("a")).isFalse();
+        assertThat(pq.contains("b")).isTrue();
+    }
+
+    @Test
+    void removeMin_afterAdds_returnsItemsInPriorityOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("c", 3);
+        pq.add("a", 1);
+        pq.add("e", 5);
+        pq.add("b", 2);
+        pq.add("d", 4);
+
+        assertThat(pq.peekMin()).isEqualTo("a");
+        assertThat(removeAll(pq)).containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void removeMin_afterChangePriority_returnsItemsInNewOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        pq.add("b", 2);
+        pq.add("c", 3);
+        pq.add("d", 4);
+        pq.changePriority("d", 0);
+        pq.changePriority("a", 10);
+        pq.changePriority("c", 3);
+
+        assertThat(removeAll(pq)).containsExactly("d", "b", "c", "a");
+    }
+
+    @Test
+    void addAll_mismatchedLengths_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(() -> pq.addAll(List.of("a", "b"), new double[]{1}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void addAll_duplicateItem_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        assertThatThrownBy(() -> pq.addAll(List.of("b", "a"), new double[]{2, 3}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void removeMin_afterAddAll_returnsItemsInPriorityOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("c", 3);
+        pq.addAll(List.of("e", "a", "d", "b"), new double[]{5, 1, 4, 2});
+        pq.changePriority("e", 0);
+
+        assertThat(pq.size()).isEqualTo(5);
+        assertThat(pq.contains("d")).isTrue();
+        assertThat(removeAll(pq)).containsExactly("e", "a", "b", "c", "d");
+    }
+
+    @Test
+    void removeMin_afterAddAllOfManySizes_matchesDoubleMapMinPQ() {
+        ExtrinsicMinPQ<Integer> pq = createMinPQ();
+        ExtrinsicMinPQ<Integer> expected = new DoubleMapMinPQ<>();
+        Random rand = new Random(373);
+        int nextItem = 0;
+        // batch sizes both much smaller and much larger than the PQ
+        for (int batchSize : new int[]{1000, 1, 3, 5000, 10, 0, 20_000}) {
+            List<Integer> items = new ArrayList<>();
+            double[] priorities = new double[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                items.add(nextItem);
+                priorities[i] = rand.nextInt(1_000_000) + nextItem / 100_000.0;
+                expected.add(nextItem, priorities[i]);
+                nextItem++;
+            }
+            pq.addAll(items, priorities);
+            for (int i = 0; i < batchSize / 2; i++) {
+                assertThat(pq.removeMin()).isEqualTo(expected.removeMin());
+            }
+            assertThat(pq.size()).isEqualTo(expected.size());
+        }
+        assertThat(removeAll(pq)).isEqualTo(removeAll(expected));
+    }
+
+    @Test
+    void addOrDecrease_newAndPresentItems_addsOrDecreases() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        pq.add("b", 2);
+        pq.addOrDecrease("c", 3);
+        pq.addOrDecrease("b", 0);
+
+        assertThat(pq.size()).isEqualTo(3);
+        assertThat(removeAll(pq)).containsExactly("b", "a", "c");
+    }
+
+    @Test
+    void removeMin_afterRandomOperations_matchesDoubleMapMinPQ() {
+        ExtrinsicMinPQ<Integer> pq = createMinPQ();
+        ExtrinsicMinPQ<Integer> expected = new DoubleMapMinPQ<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 10_000; i++) {
+            int item = rand.nextInt(1000);
+            // integer priorities keep the expected order free of ties between different items
+            double priority = rand.nextInt(1_000_000) + item / 1000.0;
+            if (expected.contains(item)) {
+                expected.changePriority(item, priority);
+                pq.changePriority(item, priority);
+            } else {
+                expected.add(item, priority);
+                pq.add(item, priority);
+            }
+            if (rand.nextInt(3) == 0) {
+                assertThat(pq.removeMin()).isEqualTo(expected.removeMin());
+            }
+            assertThat(pq.size()).isEqualTo(expected.size());
+        }
+        assertThat(removeAll(pq)).isEqualTo(removeAll(expected));
+    }
+
+    @Test
+    void removeMin_manyItems_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            ExtrinsicMinPQ<Integer> pq = createMinPQ();
+            Random rand = new Random(373);
+            for (int i = 0; i < numItems; i++) {
+                pq.add(i, rand.nextDouble());
+            }
+            for (int i = 0; i < numItems; i += 2) {
+                pq.changePriority(i, rand.nextDouble());
+            }
+
+            int count = 0;
+            while (!pq.isEmpty()) {
+                pq.removeMin();
+                count++;
+            }
+            assertThat(count).isEqualTo(numItems);
+        });
+    }
+
+    @Test
+    void addAll_manyItems_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<Integer> items = new ArrayList<>(numItems);
+            double[] priorities = new double[numItems];
+            Random rand = new Random(373);
+            for (int i = 0; i < numItems; i++) {
+                items.add(i);
+                priorities[i] = rand.nextDouble();
+            }
+
+            ExtrinsicMinPQ<Integer> pq = createMinPQ();
+            pq.addAll(items, priorities);
+            assertThat(pq.size()).isEqualTo(numItems);
+            double previous = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < 1000; i++) {
+                int item = pq.removeMin();
+                assertThat(priorities[item]).isGreaterThanOrEqualTo(previous);
+                previous = priorities[item];
+            }
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package priorityqueues;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests for monotone {@link ExtrinsicMinPQ} implementations, which only accept priorities no
+ * less than the last minimum. All priorities used here are integers at most
+ * {@link #MAX_INCREMENT} above the last minimum.
+ */
+public abstract class BaseMonotoneMinPQTests extends BaseTest {
+    protected static final int MAX_INCREMENT = 100;
+
+    protected abstract <T> ExtrinsicMinPQ<T> createMinPQ();
+
+    @Test
+    void removeMin_afterAdds_returnsItemsInPriorityOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("c", 3);
+        pq.add("a", 0);
+        pq.add("e", 50);
+        pq.add("b", 2);
+        pq.add("d", 4);
+
+        assertThat(pq.peekMin()).isEqualTo("a");
+        assertThat(pq.removeMin()).isEqualTo("a");
+        assertThat(pq.removeMin()).isEqualTo("b");
+        assertThat(pq.removeMin()).isEqualTo("c");
+        assertThat(pq.removeMin()).isEqualTo("d");
+        assertThat(pq.removeMin()).isEqualTo("e");
+        assertThat(pq.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeMin_afterChangePriority_returnsItemsInNewOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        pq.add("b", 2);
+        pq.add("c", 3);
+        pq.removeMin();
+        pq.changePriority("c", 1);
+        pq.changePriority("b", 5);
+
+        assertThat(pq.contains("a")).isFalse();
+        assertThat(pq.removeMin()).isEqualTo("c");
+        assertThat(pq.removeMin()).isEqualTo("b");
+    }
+
+    @Test
+    void add_priorityBelowLastMin_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 5);
+        pq.add("b", 7);
+        pq.removeMin();
+
+        assertThatThrownBy(() -> pq.add("c", 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.changePriority("b", 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.add("c", -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void add_duplicateOrNullItem_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        assertThatThrownBy(() -> pq.add("a", 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.add(null, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void removeMin_emptyPQ_throwsNoSuchElement() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(pq::removeMin).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> pq.changePriority("a", 1)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void removeMin_afterRandomMonotoneOperations_matchesArrayHeapMinPQ() {
+        ExtrinsicMinPQ<Integer> pq = createMinPQ();
+        ExtrinsicMinPQ<Integer> expected = new ArrayHeapMinPQ<>();
+        Random rand = new Random(373);
+        long lastMin = 0;
+        // each item gets a distinct priority, so that the order is fully determined
+        long[] priorities = new long[1000];
+        boolean[] used = new boolean[1_000_000];
+        for (int i = 0; i < 10_000; i++) {
+            int item = rand.nextInt(priorities.length);
+            long priority = lastMin + rand.nextInt(MAX_INCREMENT + 1);
+            if (used[(int) priority]) {
+                continue;
+            }
+            if (expected.contains(item)) {
+                used[(int) priorities[item]] = false;
+                expected.changePriority(item, priority);
+                pq.changePriority(item, priority);
+            } else {
+                expected.add(item, priority);
+                pq.add(item, priority);
+            }
+            used[(int) priority] = true;
+            priorities[item] = priority;
+            if (rand.nextInt(2) == 0) {
+                int min = expected.removeMin();
+                assertThat(pq.removeMin()).isEqualTo(min);
+                lastMin = priorities[min];
+            }
+            assertThat(pq.size()).isEqualTo(expected.size());
+        }
+        while (!expected.isEmpty()) {
+            assertThat(pq.removeMin()).isEqualTo(expected.removeMin());
+        }
+    }
+
+    @Test
+    void removeMin_manyItems_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            ExtrinsicMinPQ<Integer> pq = createMinPQ();
+            Random rand = new Random(373);
+            for (int i = 0; i < numItems; i++) {
+                pq.add(i, rand.nextInt(MAX_INCREMENT + 1));
+            }
+            int count = 0;
+            while (!pq.isEmpty()) {
+                pq.removeMin();
+                count++;
+            }
+            assertThat(count).isEqualTo(numItems);
+        });
+    }
+}
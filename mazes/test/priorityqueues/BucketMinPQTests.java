@@ -0,0 +1,64 @@
+package priorityqueues;
+
+import org.junit.jupiter.api.Test;
+
+public class BucketMinPQTests extends BaseMonotoneMinPQTests {
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new BucketMinPQ<>(MAX_INCREMENT);
+    }
+
+    @Test
+    void add_nonIntegerPriority_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        assertThatThrownBy(() -> pq.add("a", 0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void add_priorityBeyondRange_throwsIllegalArgument() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 10);
+        pq.removeMin();
+
+        pq.add("b", 10 + MAX_INCREMENT);
+        assertThatThrownBy(() -> pq.add("c", 11 + MAX_INCREMENT))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void factory_create_returnsIndependentPQs() {
+        MinPQFactory factory = BucketMinPQ.factory(MAX_INCREMENT);
+        ExtrinsicMinPQ<String> first = factory.create();
+        ExtrinsicMinPQ<String> second = factory.create();
+        assertThat(first).isNotSameAs(second);
+
+        first.add("a", 10);
+        first.add("b", MAX_INCREMENT);
+        second.add("c", 1);
+        assertThat(first.removeMin()).isEqualTo("a");
+        assertThat(second.size()).isEqualTo(1);
+        assertThat(second.removeMin()).isEqualTo("c");
+        assertThat(first.removeMin()).isEqualTo("b");
+        assertThat(first.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clear_afterUse_startsFromZero() {
+        BucketMinPQ<String> pq = new BucketMinPQ<>(MAX_INCREMENT);
+        pq.add("a", 10);
+        pq.add("b", MAX_INCREMENT);
+        pq.removeMin();
+
+        pq.clear();
+        assertThat(pq.isEmpty()).isTrue();
+        pq.add("a", 1);
+        pq.add("c", MAX_INCREMENT);
+        assertThat(pq.removeMin()).isEqualTo("a");
+        assertThat(pq.removeMin()).isEqualTo("c");
+    }
+
+    @Test
+    void factory_negativeRange_throwsIllegalArgument() {
+        assertThatThrownBy(() -> BucketMinPQ.factory(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
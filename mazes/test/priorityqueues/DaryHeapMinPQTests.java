@@ -0,0 +1,40 @@
+package priorityqueues;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class DaryHeapMinPQTests extends BaseTest {
+
+    @Test
+    void constructor_arityLessThanTwo_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new DaryHeapMinPQ<String>(1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DaryHeapMinPQ.factory(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class Arity2 extends BaseExtrinsicMinPQTests {
+        @Override
+        protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+            return new DaryHeapMinPQ<>(2);
+        }
+    }
+
+    @Nested
+    class Arity4 extends BaseExtrinsicMinPQTests {
+        @Override
+        protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+            return new DaryHeapMinPQ<>(4);
+        }
+    }
+
+    @Nested
+    class Arity8 extends BaseExtrinsicMinPQTests {
+        @Override
+        protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+            return DaryHeapMinPQ.factory(8).create();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package priorityqueues;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class IntDoubleIndexedMinPQTests extends BaseTest {
+
+    @Test
+    void removeMinInt_afterAdds_returnsItemsInPriorityOrder() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(5);
+        pq.add(2, 3);
+        pq.add(0, 1);
+        pq.add(4, 5);
+        pq.add(1, 2);
+        pq.add(3, 4);
+
+        assertThat(pq.peekMinInt()).isEqualTo(0);
+        assertThat(pq.size()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(pq.removeMinInt()).isEqualTo(i);
+        }
+        assertThat(pq.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeMinInt_afterDecreaseKey_returnsItemsInNewOrder() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(4);
+        pq.add(0, 1);
+        pq.add(1, 2);
+        pq.add(2, 3);
+        pq.decreaseKey(2, 0);
+
+        assertThat(pq.priorityOf(2)).isEqualTo(0);
+        assertThat(pq.removeMinInt()).isEqualTo(2);
+        assertThat(pq.removeMinInt()).isEqualTo(0);
+    }
+
+    @Test
+    void add_outOfRangeOrDuplicateItem_throwsIllegalArgument() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(2);
+        pq.add(0, 1);
+        assertThatThrownBy(() -> pq.add(0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.add(2, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.add(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decreaseKey_higherPriority_throwsIllegalArgument() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(2);
+        pq.add(0, 1);
+        assertThatThrownBy(() -> pq.decreaseKey(0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pq.decreaseKey(1, 0)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void removeMinInt_emptyPQ_throwsNoSuchElement() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(2);
+        assertThatThrownBy(pq::removeMinInt).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(pq::peekMinInt).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void clear_afterAdds_allowsReuse() {
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(3);
+        pq.add(0, 1);
+        pq.add(1, 2);
+        pq.removeMinInt();
+        pq.clear();
+
+        assertThat(pq.isEmpty()).isTrue();
+        assertThat(pq.contains(1)).isFalse();
+        pq.add(1, 5);
+        pq.add(0, 6);
+        assertThat(pq.removeMinInt()).isEqualTo(1);
+    }
+
+    @Test
+    void removeMinInt_afterRandomOperations_matchesArrayHeapMinPQ() {
+        final int capacity = 1000;
+        IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(capacity);
+        ExtrinsicMinPQ<Integer> expected = new ArrayHeapMinPQ<>();
+        double[] priorities = new double[capacity];
+        Random rand = new Random(373);
+        for (int i = 0; i < 10_000; i++) {
+            int item = rand.nextInt(capacity);
+            double priority = rand.nextInt(1_000_000) + item / 1000.0;
+            if (!pq.contains(item)) {
+                pq.add(item, priority);
+                expected.add(item, priority);
+                priorities[item] = priority;
+            } else if (priority < priorities[item]) {
+                pq.decreaseKey(item, priority);
+                expected.changePriority(item, priority);
+                priorities[item] = priority;
+            }
+            if (rand.nextInt(3) == 0) {
+                assertThat(pq.removeMinInt()).isEqualTo(expected.removeMin());
+            }
+        }
+        while (!expected.isEmpty()) {
+            assertThat(pq.removeMinInt()).isEqualTo(expected.removeMin());
+        }
+        assertThat(pq.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeMinInt_manyItems_isFast() {
+        final int numItems = 1_000_000;
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            IntDoubleIndexedMinPQ pq = new IntDoubleIndexedMinPQ(numItems);
+            Random rand = new Random(373);
+            for (int i = 0; i < numItems; i++) {
+                pq.add(i, rand.nextDouble() + 1);
+            }
+            for (int i = 0; i < numItems; i += 2) {
+                pq.decreaseKey(i, rand.nextDouble());
+            }
+
+            double previous = Double.NEGATIVE_INFINITY;
+            while (!pq.isEmpty()) {
+                double priority = pq.priorityOf(pq.peekMinInt());
+                assertThat(priority).isGreaterThanOrEqualTo(previous);
+                previous = priority;
+                pq.removeMinInt();
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package priorityqueues;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyDeletionMinPQTests extends BaseExtrinsicMinPQTests {
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new LazyDeletionMinPQ<>();
+    }
+
+    @Test
+    void addOrDecrease_higherPriority_isIgnored() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 1);
+        pq.add("b", 2);
+        pq.addOrDecrease("a", 3);
+
+        assertThat(removeAll(pq)).containsExactly("a", "b");
+    }
+
+    @Test
+    void removeMin_afterReaddingRemovedItem_returnsItOnce() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("a", 5);
+        pq.changePriority("a", 1);
+        assertThat(pq.removeMin()).isEqualTo("a");
+        // the stale entry for "a" at priority 5 now matches again, but must not be returned twice
+        pq.add("a", 5);
+        pq.add("b", 6);
+
+        assertThat(removeAll(pq)).containsExactly("a", "b");
+    }
+}
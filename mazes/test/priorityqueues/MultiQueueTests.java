@@ -0,0 +1,154 @@
+package priorityqueues;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class MultiQueueTests extends BaseTest {
+    private static final int NUM_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    @Test
+    void poll_emptyQueue_returnsNull() {
+        MultiQueue<String> queue = new MultiQueue<>();
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void add_nullItem_throwsIllegalArgument() {
+        MultiQueue<String> queue = new MultiQueue<>();
+        assertThatThrownBy(() -> queue.add(null, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void poll_withOneHeap_returnsItemsInPriorityOrder() {
+        MultiQueue<String> queue = new MultiQueue<>(1);
+        queue.add("c", 3);
+        queue.add("a", 1);
+        queue.add("b", 2);
+        queue.add("a", 0);
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(List.of(queue.poll(), queue.poll(), queue.poll(), queue.poll()))
+            .containsExactly("a", "a", "b", "c");
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    void poll_afterShuffledAdds_hasSmallRankError() {
+        final int numItems = 100_000;
+        MultiQueue<Integer> queue = new MultiQueue<>(8);
+        List<Integer> items = new ArrayList<>();
+        IntStream.range(0, numItems).forEach(items::add);
+        Collections.shuffle(items, new Random(373));
+        items.forEach(item -> queue.add(item, item));
+
+        // the rank error of a poll is the number of smaller items still in the queue
+        boolean[] removed = new boolean[numItems];
+        int smallestRemaining = 0;
+        long totalRankError = 0;
+        for (int i = 0; i < numItems; i++) {
+            int item = queue.poll();
+            assertThat(removed[item]).as("item %d polled twice", item).isFalse();
+            removed[item] = true;
+            for (int smaller = smallestRemaining; smaller < item; smaller++) {
+                if (!removed[smaller]) {
+                    totalRankError++;
+                }
+            }
+            while (smallestRemaining < numItems && removed[smallestRemaining]) {
+                smallestRemaining++;
+            }
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat((double) totalRankError / numItems).isLessThan(4.0 * queue.numHeaps());
+    }
+
+    @Test
+    void poll_fromManyThreads_returnsEachItemOnce() throws Exception {
+        final int itemsPerThread = 50_000;
+        MultiQueue<Integer> queue = new MultiQueue<>();
+        AtomicIntegerArray pollCounts = new AtomicIntegerArray(NUM_THREADS * itemsPerThread);
+
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < NUM_THREADS; thread++) {
+                int first = thread * itemsPerThread;
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < itemsPerThread; i++) {
+                        queue.add(first + i, i);
+                        // rarely, a poll racing with adds sees every heap empty
+                        Integer item = i % 2 == 1 ? queue.poll() : null;
+                        if (item != null) {
+                            pollCounts.incrementAndGet(item);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Integer item = queue.poll(); item != null; item = queue.poll()) {
+            pollCounts.incrementAndGet(item);
+        }
+        for (int i = 0; i < pollCounts.length(); i++) {
+            assertThat(pollCounts.get(i)).as("times item %d was polled", i).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void poll_fromOneToAllProcessors_isFast() {
+        final int operations = 1_000_000;
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(processors);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int threads : threadCounts) {
+                MultiQueue<Integer> queue = new MultiQueue<>();
+                int perThread = operations / threads;
+                AtomicLong polled = new AtomicLong();
+                List<Thread> workers = new ArrayList<>();
+                for (int thread = 0; thread < threads; thread++) {
+                    Random rand = new Random(thread);
+                    workers.add(new Thread(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            queue.add(i, rand.nextDouble());
+                            if (i % 2 == 1 && queue.poll() != null) {
+                                polled.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+
+                workers.forEach(Thread::start);
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+                assertThat(polled.get() + queue.size()).isEqualTo((long) threads * perThread);
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package priorityqueues;
+
+public class PairingHeapMinPQTests extends BaseExtrinsicMinPQTests {
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new PairingHeapMinPQ<>();
+    }
+}
@@ -0,0 +1,26 @@
+package priorityqueues;
+
+import org.junit.jupiter.api.Test;
+
+public class RadixHeapMinPQTests extends BaseMonotoneMinPQTests {
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new RadixHeapMinPQ<>();
+    }
+
+    @Test
+    void removeMin_fractionalPriorities_returnsItemsInPriorityOrder() {
+        ExtrinsicMinPQ<String> pq = createMinPQ();
+        pq.add("b", 0.5);
+        pq.add("c", 1e10);
+        pq.add("a", -0.0);
+        pq.add("d", Double.MAX_VALUE);
+
+        assertThat(pq.removeMin()).isEqualTo("a");
+        assertThat(pq.removeMin()).isEqualTo("b");
+        pq.add("e", 0.75);
+        assertThat(pq.removeMin()).isEqualTo("e");
+        assertThat(pq.removeMin()).isEqualTo("c");
+        assertThat(pq.removeMin()).isEqualTo("d");
+    }
+}